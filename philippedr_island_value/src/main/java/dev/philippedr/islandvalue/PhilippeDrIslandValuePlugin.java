@@ -1,24 +1,66 @@
 package dev.philippedr.islandvalue;
 
+import dev.philippedr.islandvalue.api.IslandValueService;
+import dev.philippedr.islandvalue.audit.WorthAuditor;
+import dev.philippedr.islandvalue.cache.InProcessSnapshotStore;
+import dev.philippedr.islandvalue.cache.IslandPrefetcher;
+import dev.philippedr.islandvalue.cache.IslandValueCache;
+import dev.philippedr.islandvalue.cache.MappedFileSnapshotStore;
+import dev.philippedr.islandvalue.cache.SnapshotStore;
 import dev.philippedr.islandvalue.commands.IsValueCommand;
+import dev.philippedr.islandvalue.diagnostics.JfrEvents;
+import dev.philippedr.islandvalue.export.IslandValueExporter;
 import dev.philippedr.islandvalue.hologram.HolographicValue;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.placeholder.IslandValueExpansion;
+import dev.philippedr.islandvalue.recalc.WorthRecalculator;
+import dev.philippedr.islandvalue.superiorskyblock.BlockAnalyticsIndex;
+import dev.philippedr.islandvalue.superiorskyblock.IslandBreakdownIndex;
+import dev.philippedr.islandvalue.superiorskyblock.IslandWorthEvents;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
 import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+
 public final class PhilippeDrIslandValuePlugin extends JavaPlugin {
 
     // https://bstats.org/what-is-my-plugin-id
     private static final int BSTATS_PLUGIN_ID = 28576;
 
     private HolographicValue holographicValue;
+    private SnapshotStore snapshotStore;
+    private IslandValueCache valueCache;
+    private IslandValueExpansion expansion;
+    private IslandPrefetcher prefetcher;
+    private IslandValueExporter exporter;
+    private WorthAuditor auditor;
+    private WorthRecalculator recalculator;
+    private IslandBreakdownIndex breakdowns;
+    private BlockAnalyticsIndex blockIndex;
+    private SuperiorSkyblock2Connector connector;
+    private IslandWorthEvents worthEvents;
 
     @Override
     public void onEnable() {
-        SuperiorSkyblock2Connector connector = new SuperiorSkyblock2Connector();
+        saveDefaultConfig();
+        JfrEvents.register();
+        if (!new File(getDataFolder(), JfrEvents.SETTINGS_FILE).exists()) {
+            saveResource(JfrEvents.SETTINGS_FILE, false);
+        }
+
+        connector = new SuperiorSkyblock2Connector();
+        connector.start(this);
+        worthEvents = new IslandWorthEvents(connector);
+        worthEvents.start(this);
 
         Metrics metrics = new Metrics(this, BSTATS_PLUGIN_ID);
         metrics.addCustomChart(new SimplePie(
@@ -26,8 +68,17 @@ public final class PhilippeDrIslandValuePlugin extends JavaPlugin {
             () -> connector.isAvailable() ? "yes" : "no"
         ));
 
-        SuperiorSkyblock2IslandValueCheck islandValueCheck = new SuperiorSkyblock2IslandValueCheck(connector);
-        IsValueCommand isValueCommand = new IsValueCommand(this, islandValueCheck);
+        breakdowns = new IslandBreakdownIndex(
+                connector,
+                worthEvents,
+                getConfig().getLong("cache.memory.breakdown-max-kb", 8192L) * 1024L,
+                getConfig().getLong("cache.memory.idle-expiry-seconds", 300L) * 1000L
+        );
+        SuperiorSkyblock2IslandValueCheck islandValueCheck = new SuperiorSkyblock2IslandValueCheck(connector, breakdowns);
+        Messages messages = new Messages(getClassLoader());
+        exporter = new IslandValueExporter(this, connector, islandValueCheck, messages);
+        auditor = new WorthAuditor(this, connector, islandValueCheck, messages);
+        recalculator = new WorthRecalculator(this, connector, worthEvents, messages);
 
         PluginCommand command = getCommand("isvalue");
         if (command == null) {
@@ -36,21 +87,115 @@ public final class PhilippeDrIslandValuePlugin extends JavaPlugin {
             return;
         }
 
-        command.setExecutor(isValueCommand);
-        command.setTabCompleter(isValueCommand);
+        breakdowns.start(this);
+        blockIndex = new BlockAnalyticsIndex(this, connector, breakdowns, worthEvents);
+        blockIndex.start();
+
+        snapshotStore = createSnapshotStore(getConfig().getConfigurationSection("cache"));
+        getLogger().info("Island value cache backend: " + snapshotStore.name());
+
+        valueCache = new IslandValueCache(this, connector, worthEvents, islandValueCheck, snapshotStore);
+        valueCache.start();
+        breakdowns.setPriceChangeListener(valueCache::requestAllCached);
+        getServer().getServicesManager().register(IslandValueService.class, valueCache, this, ServicePriority.Normal);
+
+        if (getServer().getPluginManager().getPlugin("PlaceholderAPI") != null) {
+            expansion = new IslandValueExpansion(this, valueCache);
+            expansion.register();
+        }
+
+        prefetcher = new IslandPrefetcher(this, connector, valueCache);
+        prefetcher.start();
 
-        holographicValue = new HolographicValue(this, connector);
+        holographicValue = new HolographicValue(this, connector, worthEvents, valueCache, messages, prefetcher);
         holographicValue.start();
 
+        IsValueCommand isValueCommand = new IsValueCommand(this, islandValueCheck, exporter, auditor, recalculator, valueCache, holographicValue, prefetcher, blockIndex, messages);
+        command.setExecutor(isValueCommand);
+        command.setTabCompleter(isValueCommand);
+
         getLogger().info("philippedr_island_value enabled.");
     }
 
     @Override
     public void onDisable() {
+        if (exporter != null) {
+            exporter.cancel();
+            exporter = null;
+        }
+        if (auditor != null) {
+            auditor.cancel();
+            auditor = null;
+        }
+        if (recalculator != null) {
+            recalculator.cancel();
+            recalculator = null;
+        }
         if (holographicValue != null) {
             holographicValue.stop();
             holographicValue = null;
         }
+        if (prefetcher != null) {
+            prefetcher.stop();
+            prefetcher = null;
+        }
+        if (expansion != null) {
+            // Persistent expansions survive a PlaceholderAPI reload, so they must be removed explicitly.
+            expansion.unregister();
+            expansion = null;
+        }
+        if (valueCache != null) {
+            getServer().getServicesManager().unregisterAll(this);
+            valueCache.stop();
+            valueCache = null;
+        }
+        if (blockIndex != null) {
+            blockIndex.stop();
+            blockIndex = null;
+        }
+        if (breakdowns != null) {
+            breakdowns.stop();
+            breakdowns = null;
+        }
+        if (snapshotStore != null) {
+            snapshotStore.close();
+            snapshotStore = null;
+        }
+        if (worthEvents != null) {
+            worthEvents.stop();
+            worthEvents = null;
+        }
+        if (connector != null) {
+            connector.stop();
+            connector = null;
+        }
+        JfrEvents.unregister();
         getLogger().info("philippedr_island_value disabled.");
     }
+
+    private SnapshotStore createSnapshotStore(ConfigurationSection cache) {
+        String backend = cache == null ? "in-process" : cache.getString("backend", "in-process");
+        if (!"mapped-file".equalsIgnoreCase(backend)) return createInProcessSnapshotStore();
+
+        String pathName = cache.getString("mapped-file.path", "island-cache.bin");
+        int slots = cache.getInt("mapped-file.slots", 8192);
+        int slotSize = cache.getInt("mapped-file.slot-size", 2048);
+
+        Path path = Path.of(pathName);
+        if (!path.isAbsolute()) path = getDataFolder().toPath().resolve(path);
+
+        try {
+            return new MappedFileSnapshotStore(path, slots, slotSize, getLogger());
+        } catch (IOException | IllegalArgumentException e) {
+            getLogger().log(Level.WARNING, "Couldn't open shared island cache at " + path + "; using in-process cache", e);
+            return createInProcessSnapshotStore();
+        }
+    }
+
+    private SnapshotStore createInProcessSnapshotStore() {
+        return new InProcessSnapshotStore(
+                getConfig().getLong("cache.memory.snapshots-max-kb", 4096L) * 1024L,
+                getConfig().getLong("cache.memory.idle-expiry-seconds", 300L) * 1000L
+        );
+    }
 }
@@ -0,0 +1,46 @@
+package dev.philippedr.islandvalue.api;
+
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Cached valuation of one island.
+ *
+ * @param ownerName   island owner name, or null if unknown
+ * @param rank        1-based worth leaderboard position, or null if unknown
+ * @param topBlocks   valued blocks sorted by worth each, clamped to the island worth
+ * @param updatedAtMs when this value was computed (System.currentTimeMillis)
+ */
+public record IslandValue(
+        UUID islandId,
+        String ownerName,
+        Integer rank,
+        BigDecimal worth,
+        BigDecimal rawWorth,
+        BigDecimal bonusWorth,
+        List<BlockWorthLine> topBlocks,
+        long updatedAtMs
+) {
+
+    public IslandValue {
+        topBlocks = topBlocks == null ? List.of() : List.copyOf(topBlocks);
+    }
+
+    /**
+     * True if both values describe the same island state, ignoring when they were computed.
+     */
+    public boolean sameContent(IslandValue other) {
+        return other != null
+                && islandId.equals(other.islandId)
+                && Objects.equals(ownerName, other.ownerName)
+                && Objects.equals(rank, other.rank)
+                && Objects.equals(worth, other.worth)
+                && Objects.equals(rawWorth, other.rawWorth)
+                && Objects.equals(bonusWorth, other.bonusWorth)
+                && topBlocks.equals(other.topBlocks);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.philippedr.islandvalue.api;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Island worth, rank and block breakdown, served from this plugin's cache.
+ *
+ * Obtain it through Bukkit's ServicesManager:
+ * <pre>
+ *   IslandValueService service = Bukkit.getServicesManager().load(IslandValueService.class);
+ * </pre>
+ *
+ * The "latest" getters are safe to call from any thread and never compute anything: they return
+ * the last known value (possibly empty or a few seconds old) and queue a background refresh if needed.
+ * The "fresh" getters recompute on the main thread and complete once the new value is available.
+ */
+public interface IslandValueService {
+
+    Optional<IslandValue> getLatest(UUID islandId);
+
+    /**
+     * Latest known value of the island the player is a member of.
+     */
+    Optional<IslandValue> getLatestForPlayer(UUID playerId);
+
+    CompletableFuture<Optional<IslandValue>> getFresh(UUID islandId);
+
+    CompletableFuture<Optional<IslandValue>> getFreshForPlayer(UUID playerId);
+}
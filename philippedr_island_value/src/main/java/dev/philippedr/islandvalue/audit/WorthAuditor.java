@@ -0,0 +1,323 @@
+package dev.philippedr.islandvalue.audit;
+
+import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.superiorskyblock.IslandGridWalker;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * Checks every island's per-key block worth sum against the worth SS2 reports for it.
+ *
+ * Counts and per-key prices are snapshotted on the main thread in time-budgeted batches (prices are
+ * memoized per audit, so each distinct key is only looked up once). Each batch is then summed and
+ * compared on a ForkJoin pool sized to the machine, so the main thread only pays for the reads.
+ *
+ * Bonus worth isn't block-derived, so the sum is compared against raw worth when SS2 provides it.
+ */
+public final class WorthAuditor {
+
+    private static final long BATCH_BUDGET_NANOS = 5_000_000L;
+    private static final int BATCH_SIZE = 128;
+    private static final long PROGRESS_INTERVAL_MS = 5_000L;
+    private static final int REPORTED_IN_CHAT = 10;
+    private static final int OFFENDING_KEYS = 3;
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final PhilippeDrIslandValuePlugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final SuperiorSkyblock2IslandValueCheck islandValueCheck;
+    private final Messages messages;
+
+    private Audit running;
+
+    public WorthAuditor(
+            PhilippeDrIslandValuePlugin plugin,
+            SuperiorSkyblock2Connector connector,
+            SuperiorSkyblock2IslandValueCheck islandValueCheck,
+            Messages messages
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.islandValueCheck = islandValueCheck;
+        this.messages = messages;
+    }
+
+    /**
+     * Starts an audit reporting islands whose breakdown diverges by more than thresholdPercent.
+     * Main thread only; returns false if one is already running.
+     */
+    public boolean start(CommandSender sender, double thresholdPercent) {
+        if (running != null) return false;
+
+        List<UUID> islandIds = connector.getAllIslandUuids();
+        Audit audit = new Audit(sender, BigDecimal.valueOf(thresholdPercent).movePointLeft(2));
+        audit.walker = new IslandGridWalker(plugin, connector, islandIds, BATCH_BUDGET_NANOS, audit::snapshot, audit::finishReading);
+        running = audit;
+
+        sender.sendMessage(messages.get(sender, "audit.started", String.valueOf(islandIds.size()),
+                String.valueOf(audit.pool.getParallelism()), String.valueOf(thresholdPercent)));
+        audit.walker.start();
+        return true;
+    }
+
+    public void cancel() {
+        Audit audit = running;
+        if (audit == null) return;
+        audit.cancelled = true;
+        audit.walker.cancel();
+        audit.pool.shutdownNow();
+        running = null;
+    }
+
+    // Key names are resolved on the main thread; pool threads never touch SS2 objects.
+    private record KeyCount(String name, BigInteger count, BigDecimal worthEach) {
+    }
+
+    private record IslandCounts(UUID islandId, String ownerName, BigDecimal expectedWorth, List<KeyCount> keys) {
+    }
+
+    private record KeyContribution(String key, BigDecimal worthTotal) {
+    }
+
+    private record Contribution(KeyCount key, BigDecimal worthTotal) {
+    }
+
+    private record Divergence(
+            UUID islandId,
+            String ownerName,
+            BigDecimal expectedWorth,
+            BigDecimal keySum,
+            BigDecimal difference,
+            List<KeyContribution> offendingKeys
+    ) {
+    }
+
+    private final class Audit {
+        private final CommandSender sender;
+        private final BigDecimal threshold;
+        private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        private final Queue<Divergence> divergences = new ConcurrentLinkedQueue<>();
+        private final Queue<UUID> failures = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+        private final Map<Object, BigDecimal> worthByKey = new HashMap<>();
+
+        private IslandGridWalker walker;
+        private List<IslandCounts> batch = new ArrayList<>(BATCH_SIZE);
+        private long lastProgressMs = System.currentTimeMillis();
+        private volatile boolean cancelled;
+
+        Audit(CommandSender sender, BigDecimal threshold) {
+            this.sender = sender;
+            this.threshold = threshold;
+        }
+
+        // Main thread.
+        boolean snapshot(UUID islandId, Object island) {
+            long nowMs = System.currentTimeMillis();
+            if (nowMs - lastProgressMs >= PROGRESS_INTERVAL_MS) {
+                lastProgressMs = nowMs;
+                sender.sendMessage(messages.get(sender, "audit.progress", String.valueOf(walker.processed()), String.valueOf(walker.total())));
+            }
+
+            BigDecimal expected = connector.getIslandRawWorth(island);
+            if (expected == null) expected = connector.getIslandWorth(island);
+            if (expected == null) return true;
+
+            Map<Object, BigInteger> counts = islandValueCheck.getConcreteBlockCounts(island);
+            List<KeyCount> keys = new ArrayList<>(counts.size());
+            for (Map.Entry<Object, BigInteger> entry : counts.entrySet()) {
+                BigDecimal worthEach = worthByKey.computeIfAbsent(entry.getKey(), key -> {
+                    BigDecimal worth = connector.getBlockWorth(key);
+                    return worth == null ? BigDecimal.ZERO : worth;
+                });
+                if (worthEach.signum() > 0) {
+                    keys.add(new KeyCount(islandValueCheck.getKeyName(entry.getKey()), entry.getValue(), worthEach));
+                }
+            }
+
+            batch.add(new IslandCounts(islandId, connector.getIslandOwnerName(island), expected, keys));
+            if (batch.size() >= BATCH_SIZE) flushBatch();
+            return true;
+        }
+
+        // Main thread.
+        void flushBatch() {
+            if (batch.isEmpty()) return;
+            List<IslandCounts> toCheck = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            pool.execute(() -> toCheck.parallelStream().forEach(island -> {
+                try {
+                    Divergence divergence = check(island);
+                    if (divergence != null) divergences.add(divergence);
+                } catch (RuntimeException e) {
+                    // Reported with the results rather than dropped, so the audit can't silently under-report.
+                    failures.add(island.islandId());
+                    firstFailure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        // Main thread.
+        void finishReading() {
+            flushBatch();
+            pool.shutdown();
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    if (!pool.awaitTermination(10, TimeUnit.MINUTES)) {
+                        pool.shutdownNow();
+                        end("audit.timed-out");
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    pool.shutdownNow();
+                    end("audit.interrupted");
+                    return;
+                }
+                report();
+            });
+        }
+
+        // Any thread: clears the running audit on the main thread and tells the sender why it ended.
+        private void end(String messageKey) {
+            if (cancelled || !plugin.isEnabled()) return;
+            try {
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (running == this) running = null;
+                    sender.sendMessage(messages.get(sender, messageKey));
+                });
+            } catch (Throwable ignored) {
+                // Plugin disabled.
+            }
+        }
+
+        // Pool thread.
+        private Divergence check(IslandCounts island) {
+            BigDecimal sum = BigDecimal.ZERO;
+            List<Contribution> contributions = new ArrayList<>(island.keys().size());
+            for (KeyCount key : island.keys()) {
+                BigDecimal total = key.worthEach().multiply(new BigDecimal(key.count()));
+                sum = sum.add(total);
+                contributions.add(new Contribution(key, total));
+            }
+
+            BigDecimal difference = sum.subtract(island.expectedWorth());
+            BigDecimal base = island.expectedWorth().abs().max(BigDecimal.ONE);
+            if (difference.abs().divide(base, MathContext.DECIMAL64).compareTo(threshold) <= 0) return null;
+
+            // Largest contributors are the likeliest culprits (bad price or stale count).
+            contributions.sort(Comparator.comparing(Contribution::worthTotal).reversed());
+            List<KeyContribution> offending = new ArrayList<>(OFFENDING_KEYS);
+            for (int i = 0; i < contributions.size() && i < OFFENDING_KEYS; i++) {
+                Contribution c = contributions.get(i);
+                offending.add(new KeyContribution(c.key().name(), c.worthTotal()));
+            }
+
+            return new Divergence(island.islandId(), island.ownerName(), island.expectedWorth(), sum, difference, offending);
+        }
+
+        // Async thread.
+        private void report() {
+            if (cancelled) return;
+            List<Divergence> sorted = new ArrayList<>(divergences);
+            List<UUID> failed = new ArrayList<>(failures);
+            if (firstFailure.get() != null) {
+                plugin.getLogger().log(Level.WARNING, "Worth audit couldn't check " + failed.size() + " islands", firstFailure.get());
+            }
+            sorted.sort(Comparator.comparing((Divergence d) -> d.difference().abs()).reversed());
+
+            Path file = plugin.getDataFolder().toPath()
+                    .resolve("audits")
+                    .resolve("worth-audit-" + LocalDateTime.now().format(FILE_STAMP) + ".txt");
+            Throwable failure = null;
+            try {
+                writeReport(file, sorted, failed);
+            } catch (IOException e) {
+                failure = e;
+                plugin.getLogger().log(Level.WARNING, "Couldn't write worth audit report to " + file, e);
+            }
+
+            if (!plugin.isEnabled()) return;
+            Throwable error = failure;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (running == this) running = null;
+                sender.sendMessage(messages.get(sender, "audit.finished", String.valueOf(sorted.size()), String.valueOf(walker.total())));
+                for (int i = 0; i < sorted.size() && i < REPORTED_IN_CHAT; i++) {
+                    Divergence d = sorted.get(i);
+                    sender.sendMessage(messages.get(sender, "audit.line", String.valueOf(i + 1), owner(d),
+                            SuperiorSkyblock2IslandValueCheck.formatDecimal(d.expectedWorth()),
+                            SuperiorSkyblock2IslandValueCheck.formatDecimal(d.keySum()),
+                            signed(d.difference()), offendingKeys(d)));
+                }
+                if (!failed.isEmpty()) {
+                    sender.sendMessage(messages.get(sender, "audit.not-checked", String.valueOf(failed.size())));
+                }
+                if (error == null) {
+                    sender.sendMessage(messages.get(sender, "audit.report", String.valueOf(file)));
+                } else {
+                    sender.sendMessage(messages.get(sender, "audit.report-failed", String.valueOf(error.getMessage())));
+                }
+            });
+        }
+
+        private void writeReport(Path file, List<Divergence> sorted, List<UUID> failed) throws IOException {
+            Files.createDirectories(file.getParent());
+            try (Writer out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                for (UUID islandId : failed) {
+                    out.write("# not checked (error): " + islandId + "\n");
+                }
+                out.write("# island_id\towner\texpected_worth\tkeys_sum\tdifference\ttop_keys\n");
+                for (Divergence d : sorted) {
+                    out.write(d.islandId() + "\t" + owner(d) + "\t" + d.expectedWorth().toPlainString() + "\t"
+                            + d.keySum().toPlainString() + "\t" + d.difference().toPlainString() + "\t" + offendingKeys(d) + "\n");
+                }
+            }
+        }
+    }
+
+    private static String owner(Divergence d) {
+        return d.ownerName() == null ? d.islandId().toString() : d.ownerName();
+    }
+
+    private static String signed(BigDecimal value) {
+        String formatted = SuperiorSkyblock2IslandValueCheck.formatDecimal(value);
+        return value.signum() > 0 ? "+" + formatted : formatted;
+    }
+
+    private static String offendingKeys(Divergence d) {
+        StringBuilder sb = new StringBuilder();
+        for (KeyContribution key : d.offendingKeys()) {
+            if (!sb.isEmpty()) sb.append(", ");
+            sb.append(key.key()).append('=').append(SuperiorSkyblock2IslandValueCheck.formatDecimal(key.worthTotal()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.philippedr.islandvalue.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe LRU cache bounded by total entry weight, with idle (expire-after-access) expiry.
+ *
+ * Weights are estimated entry sizes in bytes, so the bound and {@link Stats#weight()} double as a
+ * memory estimate. Plain LRU is enough here: the hot set is the islands players are standing on,
+ * which are re-read every refresh cycle, while one-off lookups age out on their own.
+ */
+public final class BoundedCache<K, V> {
+
+    private final long maxWeight;
+    private final long expireAfterAccessMs;
+    private final ToLongFunction<V> weigher;
+
+    // Kept in recency order by re-inserting on access: iteration starts at the least recently used entry.
+    // (An access-ordered LinkedHashMap would also reorder on peek.)
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>();
+    private long weight;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public BoundedCache(long maxWeight, long expireAfterAccessMs, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.expireAfterAccessMs = expireAfterAccessMs;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the value and marks it as used, or null (counted as a miss) if absent or expired.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        long nowMs = System.currentTimeMillis();
+        if (entry == null || isExpired(entry, nowMs)) {
+            if (entry != null) {
+                entries.remove(key);
+                weight -= entry.weight;
+                expirations++;
+            }
+            misses++;
+            return null;
+        }
+
+        entry.lastAccessMs = nowMs;
+        entries.remove(key);
+        entries.put(key, entry);
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Returns the value without touching recency or stats.
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null || isExpired(entry, System.currentTimeMillis()) ? null : entry.value;
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return peek(key) != null;
+    }
+
+    public synchronized void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, Math.max(1L, weigher.applyAsLong(value)), System.currentTimeMillis());
+        Entry<V> previous = entries.remove(key);
+        entries.put(key, entry);
+        if (previous != null) weight -= previous.weight;
+        weight += entry.weight;
+        evictToBound();
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) return null;
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    /**
+     * Returns a copy of the current keys, least recently used first.
+     */
+    public synchronized List<K> keys() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0L;
+    }
+
+    /**
+     * Drops entries that have been idle longer than the expiry.
+     */
+    public synchronized void cleanUp() {
+        long nowMs = System.currentTimeMillis();
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry<V> entry = it.next();
+            // LRU order: once one entry is fresh, every later one is too.
+            if (!isExpired(entry, nowMs)) break;
+            it.remove();
+            weight -= entry.weight;
+            expirations++;
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), weight, maxWeight, hits, misses, evictions, expirations);
+    }
+
+    private void evictToBound() {
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Entry<V> entry = it.next();
+            it.remove();
+            weight -= entry.weight;
+            evictions++;
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry, long nowMs) {
+        return expireAfterAccessMs > 0 && nowMs - entry.lastAccessMs > expireAfterAccessMs;
+    }
+
+    public record Stats(int size, long weight, long maxWeight, long hits, long misses, long evictions, long expirations) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        long lastAccessMs;
+
+        Entry(V value, long weight, long lastAccessMs) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessMs = lastAccessMs;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.philippedr.islandvalue.cache;
+
+import java.util.UUID;
+
+/**
+ * Default backend: snapshots only live in this server's memory, bounded like the other island caches.
+ */
+public final class InProcessSnapshotStore implements SnapshotStore {
+
+    private final BoundedCache<UUID, IslandSnapshot> snapshots;
+
+    public InProcessSnapshotStore(long maxWeightBytes, long expireAfterAccessMs) {
+        this.snapshots = new BoundedCache<>(maxWeightBytes, expireAfterAccessMs, InProcessSnapshotStore::estimatedBytes);
+    }
+
+    @Override
+    public IslandSnapshot get(UUID islandId, long worthVersion) {
+        if (islandId == null) return null;
+        IslandSnapshot snapshot = snapshots.get(islandId);
+        return snapshot != null && snapshot.worthVersion() == worthVersion ? snapshot : null;
+    }
+
+    @Override
+    public void put(IslandSnapshot snapshot) {
+        if (snapshot != null) snapshots.put(snapshot.islandId(), snapshot);
+    }
+
+    @Override
+    public void invalidate(UUID islandId) {
+        if (islandId != null) snapshots.remove(islandId);
+    }
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public void close() {
+        snapshots.clear();
+    }
+
+    /**
+     * Rough heap size of a snapshot: fixed fields plus each top block line.
+     */
+    private static long estimatedBytes(IslandSnapshot snapshot) {
+        return 256L + snapshot.topBlocks().size() * 200L;
+    }
+}
@@ -0,0 +1,291 @@
+package dev.philippedr.islandvalue.cache;
+
+import dev.philippedr.islandvalue.api.IslandValue;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector.IslandArea;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Warms island values before a hologram needs them, so it can show real data instead of "Loading...".
+ *
+ * Predicted islands:
+ * - a player's own island, queued at pre-login so it's computed while they're still connecting;
+ * - the island a player joins at;
+ * - islands moving players are heading into (their position extrapolated from recent movement);
+ * - the island a player teleports to.
+ *
+ * Movement is sampled from move events at most twice a second per player. A lookahead point inside the last
+ * island resolved for the player (the one they entered, or the one last predicted) needs no lookup.
+ *
+ * Work runs on the main thread within a per-tick time budget and pauses while the server is lagging.
+ * Arrivals are counted to measure how often a hologram found its island's value already cached.
+ */
+public final class IslandPrefetcher implements Listener {
+
+    private static final long SAMPLE_PERIOD_MS = 500L;
+    // Samples further apart than this don't make a velocity (the player stood still, or was away).
+    private static final long MAX_SAMPLE_GAP_MS = 2_000L;
+    // How far ahead to extrapolate movement.
+    private static final double LOOKAHEAD_SECONDS = 1.5;
+    // Blocks per second, squared.
+    private static final double MIN_SPEED_SQUARED = 1.0;
+    private static final long PRUNE_PERIOD_TICKS = 1200L;
+    // Values younger than this are good enough to show on arrival.
+    private static final long WARM_FOR_MS = 10_000L;
+    private static final int MAX_QUEUED = 512;
+    private static final long WARMED_TTL_MS = 300_000L;
+
+    private final Plugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final IslandValueCache valueCache;
+    private final boolean enabled;
+    private final long budgetNanos;
+    private final double maxMspt;
+
+    // Logins in progress (async pre-login thread), resolved to their island on the main thread.
+    private final Queue<UUID> loggingIn = new ConcurrentLinkedQueue<>();
+    private final Deque<UUID> joined = new ArrayDeque<>();
+    private final Deque<UUID> islandQueue = new ArrayDeque<>();
+    private final Set<UUID> queuedIslands = new HashSet<>();
+    private final Map<UUID, Tracker> trackerByPlayer = new HashMap<>();
+    // Islands warmed by prefetching and not yet arrived at, with when they were warmed.
+    private final Map<UUID, Long> warmedAtByIsland = new HashMap<>();
+
+    private Consumer<UUID> warmListener = islandId -> { };
+    private long warmed;
+    private long used;
+    private long arrivals;
+    private long warmArrivals;
+
+    private BukkitTask drainTask;
+    private BukkitTask pruneTask;
+
+    public IslandPrefetcher(Plugin plugin, SuperiorSkyblock2Connector connector, IslandValueCache valueCache) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.valueCache = valueCache;
+        this.enabled = plugin.getConfig().getBoolean("prefetch.enabled", true);
+        this.budgetNanos = (long) (plugin.getConfig().getDouble("prefetch.budget-ms", 1.0) * 1_000_000L);
+        this.maxMspt = plugin.getConfig().getDouble("prefetch.max-mspt", 40.0);
+    }
+
+    public void start() {
+        if (!enabled) return;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        // Border crossings fire from movement, on the main thread.
+        connector.registerEventHook(plugin, this, "IslandEnterEvent", EventPriority.MONITOR, event ->
+                entered(connector.getEventPlayerUuid(event), connector.getEventIsland(event)));
+
+        this.drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+        this.pruneTask = Bukkit.getScheduler().runTaskTimer(plugin, this::pruneWarmed, PRUNE_PERIOD_TICKS, PRUNE_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (drainTask != null) drainTask.cancel();
+        if (pruneTask != null) pruneTask.cancel();
+
+        loggingIn.clear();
+        joined.clear();
+        islandQueue.clear();
+        queuedIslands.clear();
+        trackerByPlayer.clear();
+        warmedAtByIsland.clear();
+    }
+
+    /**
+     * Called with the island id after a prefetch computed its value (main thread).
+     */
+    public void setWarmListener(Consumer<UUID> warmListener) {
+        this.warmListener = warmListener;
+    }
+
+    /**
+     * Queues the island ahead of predicted ones; used when a hologram arrived before its value. Main thread only.
+     */
+    public void requestNow(UUID islandId) {
+        if (!enabled || islandId == null || !queuedIslands.add(islandId)) return;
+        islandQueue.addFirst(islandId);
+    }
+
+    /**
+     * Records a player arriving at an island's hologram and whether its value was already cached. Main thread only.
+     */
+    public void recordArrival(UUID islandId, boolean warm) {
+        arrivals++;
+        if (warm) warmArrivals++;
+        if (warmedAtByIsland.remove(islandId) != null && warm) used++;
+    }
+
+    public Stats stats() {
+        return new Stats(warmed, used, arrivals, warmArrivals);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) loggingIn.add(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        // Resolved on a later tick; the join tick is busy enough.
+        joined.add(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        Location to = event.getTo();
+        if (to == null || to.getWorld() == null || !connector.isAvailable()) return;
+
+        // Not a movement: start sampling afresh from the destination, and warm its island.
+        Tracker tracker = tracker(event.getPlayer().getUniqueId());
+        tracker.worldId = null;
+        Object island = connector.getIslandAt(to);
+        if (island == null) return;
+        tracker.area = connector.getIslandArea(island);
+        offer(connector.getIslandUuid(island));
+    }
+
+    /**
+     * Extrapolates the player's position from their last sample and queues the island found there.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Tracker tracker = tracker(event.getPlayer().getUniqueId());
+        long now = System.currentTimeMillis();
+        long elapsedMs = now - tracker.sampledAtMs;
+        if (elapsedMs < SAMPLE_PERIOD_MS) return;
+
+        Location to = event.getTo();
+        World world = to == null ? null : to.getWorld();
+        if (world == null) return;
+
+        UUID worldId = world.getUID();
+        boolean continuous = worldId.equals(tracker.worldId) && elapsedMs <= MAX_SAMPLE_GAP_MS;
+        double perSecond = 1000.0 / elapsedMs;
+        double vx = (to.getX() - tracker.x) * perSecond;
+        double vz = (to.getZ() - tracker.z) * perSecond;
+        tracker.worldId = worldId;
+        tracker.x = to.getX();
+        tracker.z = to.getZ();
+        tracker.sampledAtMs = now;
+        if (!continuous || vx * vx + vz * vz < MIN_SPEED_SQUARED || !connector.isAvailable()) return;
+
+        double aheadX = to.getX() + vx * LOOKAHEAD_SECONDS;
+        double aheadZ = to.getZ() + vz * LOOKAHEAD_SECONDS;
+        // Still heading through an island already resolved for them: nothing new to warm.
+        IslandArea area = tracker.area;
+        if (area != null && area.contains(aheadX, aheadZ)) return;
+
+        Object island = connector.getIslandAt(new Location(world, aheadX, to.getY(), aheadZ));
+        if (island == null) return;
+        tracker.area = connector.getIslandArea(island);
+        offer(connector.getIslandUuid(island));
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        trackerByPlayer.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void entered(UUID playerId, Object island) {
+        Tracker tracker = playerId == null ? null : trackerByPlayer.get(playerId);
+        if (tracker != null && island != null) tracker.area = connector.getIslandArea(island);
+    }
+
+    private Tracker tracker(UUID playerId) {
+        return trackerByPlayer.computeIfAbsent(playerId, id -> new Tracker());
+    }
+
+    private void drain() {
+        if (!connector.isAvailable()) return;
+        if (loggingIn.isEmpty() && joined.isEmpty() && islandQueue.isEmpty()) return;
+        // Low priority: leave a lagging server alone.
+        if (Bukkit.getAverageTickTime() > maxMspt) return;
+
+        long deadline = System.nanoTime() + budgetNanos;
+
+        UUID playerId;
+        while (System.nanoTime() < deadline && (playerId = loggingIn.poll()) != null) {
+            offer(connector.getIslandUuid(connector.getIslandForPlayer(playerId)));
+        }
+        while (System.nanoTime() < deadline && (playerId = joined.poll()) != null) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null) continue;
+            offer(connector.getIslandUuid(connector.getIslandAt(player.getLocation())));
+            offer(connector.getIslandUuid(connector.getIslandForPlayer(playerId)));
+        }
+
+        UUID islandId;
+        while (System.nanoTime() < deadline && (islandId = islandQueue.poll()) != null) {
+            queuedIslands.remove(islandId);
+            if (isWarm(islandId)) continue;
+
+            if (valueCache.refresh(islandId) == null) continue;
+            warmed++;
+            warmedAtByIsland.put(islandId, System.currentTimeMillis());
+            warmListener.accept(islandId);
+        }
+    }
+
+    private void pruneWarmed() {
+        long cutoff = System.currentTimeMillis() - WARMED_TTL_MS;
+        warmedAtByIsland.values().removeIf(warmedAtMs -> warmedAtMs < cutoff);
+    }
+
+    private void offer(UUID islandId) {
+        if (islandId == null || isWarm(islandId)) return;
+        if (queuedIslands.size() >= MAX_QUEUED || !queuedIslands.add(islandId)) return;
+        islandQueue.addLast(islandId);
+    }
+
+    private boolean isWarm(UUID islandId) {
+        IslandValue value = valueCache.peek(islandId);
+        return value != null && System.currentTimeMillis() - value.updatedAtMs() <= WARM_FOR_MS;
+    }
+
+    /**
+     * Counters since start: islands warmed by prefetching, how many of those a player then arrived at,
+     * and hologram arrivals overall and with the value already cached.
+     */
+    public record Stats(long warmed, long used, long arrivals, long warmArrivals) {
+
+        public double hitRate() {
+            return arrivals == 0 ? 0.0 : (double) warmArrivals / arrivals;
+        }
+    }
+
+    /**
+     * A player's last movement sample and the last island resolved for them; updated in place.
+     */
+    private static final class Tracker {
+        UUID worldId;
+        double x;
+        double z;
+        long sampledAtMs;
+        IslandArea area;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.philippedr.islandvalue.cache;
+
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Locale-independent island valuation: worth split and the clamped top block breakdown.
+ *
+ * Snapshots are keyed by island and worth version. Servers reading the same SS2 database
+ * derive the same version for the same worth and blocks, so a snapshot computed on one can be reused by another.
+ */
+public record IslandSnapshot(
+        UUID islandId,
+        long worthVersion,
+        long computedAtMs,
+        BigDecimal worth,
+        BigDecimal rawWorth,
+        BigDecimal bonusWorth,
+        List<BlockWorthLine> topBlocks
+) {
+
+    /**
+     * Number of top blocks kept per snapshot (enough for the hologram and the command).
+     */
+    public static final int TOP_BLOCKS = 10;
+
+    public IslandSnapshot {
+        topBlocks = topBlocks == null ? List.of() : List.copyOf(topBlocks);
+    }
+
+    /**
+     * Stable 64-bit version of an island's valuation (identical across JVMs): its worth values, compared by
+     * numeric value rather than scale, and the fingerprint of its block counts and prices, so a snapshot is
+     * also replaced when blocks or prices change while the worth stays the same.
+     */
+    public static long worthVersion(BigDecimal worth, BigDecimal rawWorth, BigDecimal bonusWorth, long contentVersion) {
+        long h = 0x9E3779B97F4A7C15L;
+        h = mix(h, hash(worth));
+        h = mix(h, hash(rawWorth));
+        h = mix(h, hash(bonusWorth));
+        h = mix(h, contentVersion);
+        return h;
+    }
+
+    private static long hash(BigDecimal value) {
+        if (value == null) return 0L;
+        BigDecimal normalized = value.stripTrailingZeros();
+        return ((long) normalized.unscaledValue().hashCode() << 32) ^ normalized.scale();
+    }
+
+    private static long mix(long h, long value) {
+        h ^= value;
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,377 @@
+package dev.philippedr.islandvalue.cache;
+
+import dev.philippedr.islandvalue.api.IslandValue;
+import dev.philippedr.islandvalue.api.IslandValueService;
+import dev.philippedr.islandvalue.diagnostics.IslandRefreshEvent;
+import dev.philippedr.islandvalue.superiorskyblock.IslandWorthEvents;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.TopBlocks;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Latest known island values, shared by the hologram, the service API and placeholders.
+ *
+ * Values are only computed on the main thread. Readers on other threads get the last known value
+ * and queue a refresh, which a main-thread task drains within a small per-run time budget.
+ */
+public final class IslandValueCache implements IslandValueService, Listener {
+
+    private static final long STALE_AFTER_MS = 10_000L;
+    private static final long PLAYER_MAPPING_TTL_MS = 60_000L;
+    private static final long DRAIN_BUDGET_NANOS = 2_000_000L;
+
+    /**
+     * Marks players known to have no island.
+     */
+    private static final UUID NO_ISLAND = new UUID(0L, 0L);
+
+    private final Plugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final IslandWorthEvents worthEvents;
+    private final SuperiorSkyblock2IslandValueCheck islandValueCheck;
+    private final SnapshotStore snapshotStore;
+
+    private final BoundedCache<UUID, IslandValue> latestByIsland;
+    private final Map<UUID, PlayerIsland> islandByPlayer = new ConcurrentHashMap<>();
+
+    // Refresh requests from any thread; the map dedupes and remembers when each was queued.
+    private final Map<UUID, Long> queuedIslands = new ConcurrentHashMap<>();
+    private final Queue<UUID> islandQueue = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, Boolean> queuedPlayers = new ConcurrentHashMap<>();
+    private final Queue<UUID> playerQueue = new ConcurrentLinkedQueue<>();
+
+    private final Map<UUID, CompletableFuture<Optional<IslandValue>>> pendingFresh = new ConcurrentHashMap<>();
+
+    private BukkitTask drainTask;
+    private BukkitTask maintenanceTask;
+
+    public IslandValueCache(
+            Plugin plugin,
+            SuperiorSkyblock2Connector connector,
+            IslandWorthEvents worthEvents,
+            SuperiorSkyblock2IslandValueCheck islandValueCheck,
+            SnapshotStore snapshotStore
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.worthEvents = worthEvents;
+        this.islandValueCheck = islandValueCheck;
+        this.snapshotStore = snapshotStore;
+        this.latestByIsland = new BoundedCache<>(
+                plugin.getConfig().getLong("cache.memory.values-max-kb", 4096L) * 1024L,
+                plugin.getConfig().getLong("cache.memory.idle-expiry-seconds", 300L) * 1000L,
+                IslandValueCache::estimatedBytes
+        );
+    }
+
+    public void start() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        registerSuperiorHooks();
+
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            requestPlayer(online.getUniqueId());
+        }
+
+        this.drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drainQueues, 2L, 2L);
+        this.maintenanceTask = Bukkit.getScheduler().runTaskTimer(plugin, latestByIsland::cleanUp, 600L, 600L);
+    }
+
+    public void stop() {
+        if (drainTask != null) drainTask.cancel();
+        if (maintenanceTask != null) maintenanceTask.cancel();
+
+        for (CompletableFuture<Optional<IslandValue>> future : pendingFresh.values()) {
+            future.complete(Optional.empty());
+        }
+        pendingFresh.clear();
+        latestByIsland.clear();
+        islandByPlayer.clear();
+        queuedIslands.clear();
+        islandQueue.clear();
+        queuedPlayers.clear();
+        playerQueue.clear();
+    }
+
+    /**
+     * Recomputes the island's value. Main thread only.
+     */
+    public IslandValue refresh(UUID islandId) {
+        if (islandId == null || !connector.isAvailable()) return null;
+
+        IslandRefreshEvent event = new IslandRefreshEvent();
+        event.begin();
+
+        Object island = connector.getIslandByUuid(islandId);
+        if (island == null) {
+            latestByIsland.remove(islandId);
+            commitRefresh(event, islandId, null);
+            return null;
+        }
+
+        long nowMs = System.currentTimeMillis();
+        String ownerName = connector.getIslandOwnerName(island);
+        Integer rank = connector.getIslandWorthRank(island);
+        IslandSnapshot snapshot = loadSnapshot(islandId, island, nowMs, event);
+
+        IslandValue value = new IslandValue(
+                islandId,
+                ownerName,
+                rank,
+                snapshot.worth(),
+                snapshot.rawWorth(),
+                snapshot.bonusWorth(),
+                snapshot.topBlocks(),
+                nowMs
+        );
+        latestByIsland.put(islandId, value);
+        commitRefresh(event, islandId, island);
+        return value;
+    }
+
+    private void commitRefresh(IslandRefreshEvent event, UUID islandId, Object island) {
+        // End first so the event's duration covers the refresh, not the extra read below.
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.islandId = islandId.toString();
+        event.found = island != null;
+        // Only read while recording: one extra SS2 call per refresh.
+        event.keyCount = island == null ? 0 : connector.getIslandBlockCounts(island).size();
+        event.commit();
+    }
+
+    /**
+     * Returns the island's snapshot for its current worth and blocks. The breakdown is brought up to date from
+     * the count diff either way; an unchanged snapshot in the store (possibly from another server) is reused
+     * rather than replaced.
+     */
+    private IslandSnapshot loadSnapshot(UUID islandId, Object island, long nowMs, IslandRefreshEvent event) {
+        BigDecimal worth = connector.getIslandWorth(island);
+        BigDecimal rawWorth = connector.getIslandRawWorth(island);
+        BigDecimal bonusWorth = connector.getIslandBonusWorth(island);
+        TopBlocks top = islandValueCheck.getVersionedTopWorthBlocks(island, IslandSnapshot.TOP_BLOCKS);
+        long worthVersion = IslandSnapshot.worthVersion(worth, rawWorth, bonusWorth, top.contentVersion());
+
+        IslandSnapshot snapshot = snapshotStore.get(islandId, worthVersion);
+        if (snapshot != null) {
+            event.snapshotReused = true;
+            return snapshot;
+        }
+
+        snapshot = new IslandSnapshot(islandId, worthVersion, nowMs, worth, rawWorth, bonusWorth, top.lines());
+        snapshotStore.put(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Returns the cached value without queueing a refresh or counting towards cache stats.
+     */
+    public IslandValue peek(UUID islandId) {
+        return islandId == null ? null : latestByIsland.peek(islandId);
+    }
+
+    public BoundedCache.Stats cacheStats() {
+        return latestByIsland.stats();
+    }
+
+    /**
+     * Rough heap size of a cached value: fixed fields plus each top block line.
+     */
+    private static long estimatedBytes(IslandValue value) {
+        return 320L + value.topBlocks().size() * 200L;
+    }
+
+    @Override
+    public Optional<IslandValue> getLatest(UUID islandId) {
+        if (islandId == null) return Optional.empty();
+
+        IslandValue value = latestByIsland.get(islandId);
+        if (value == null || System.currentTimeMillis() - value.updatedAtMs() > STALE_AFTER_MS) {
+            requestIsland(islandId);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public Optional<IslandValue> getLatestForPlayer(UUID playerId) {
+        if (playerId == null) return Optional.empty();
+
+        PlayerIsland mapping = islandByPlayer.get(playerId);
+        if (mapping == null || System.currentTimeMillis() - mapping.resolvedAtMs() > PLAYER_MAPPING_TTL_MS) {
+            requestPlayer(playerId);
+        }
+        if (mapping == null || mapping.islandId() == NO_ISLAND) return Optional.empty();
+        return getLatest(mapping.islandId());
+    }
+
+    @Override
+    public CompletableFuture<Optional<IslandValue>> getFresh(UUID islandId) {
+        if (islandId == null) return CompletableFuture.completedFuture(Optional.empty());
+        if (Bukkit.isPrimaryThread()) return CompletableFuture.completedFuture(Optional.ofNullable(refresh(islandId)));
+
+        // Concurrent callers for the same island share one main-thread computation.
+        CompletableFuture<Optional<IslandValue>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<IslandValue>> existing = pendingFresh.putIfAbsent(islandId, created);
+        if (existing != null) return existing;
+
+        try {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                pendingFresh.remove(islandId, created);
+                try {
+                    created.complete(Optional.ofNullable(refresh(islandId)));
+                } catch (Throwable t) {
+                    created.completeExceptionally(t);
+                }
+            });
+        } catch (Throwable t) {
+            // Plugin disabled.
+            pendingFresh.remove(islandId, created);
+            created.completeExceptionally(t);
+        }
+        return created;
+    }
+
+    @Override
+    public CompletableFuture<Optional<IslandValue>> getFreshForPlayer(UUID playerId) {
+        if (playerId == null) return CompletableFuture.completedFuture(Optional.empty());
+        if (Bukkit.isPrimaryThread()) {
+            UUID islandId = resolvePlayer(playerId);
+            return islandId == null ? CompletableFuture.completedFuture(Optional.empty()) : getFresh(islandId);
+        }
+
+        CompletableFuture<Optional<IslandValue>> future = new CompletableFuture<>();
+        try {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                try {
+                    UUID islandId = resolvePlayer(playerId);
+                    future.complete(islandId == null ? Optional.empty() : Optional.ofNullable(refresh(islandId)));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    /**
+     * Queues a background refresh of the island (any thread).
+     */
+    public void requestIsland(UUID islandId) {
+        if (islandId == null) return;
+        if (queuedIslands.putIfAbsent(islandId, System.currentTimeMillis()) == null) {
+            islandQueue.add(islandId);
+        }
+    }
+
+    /**
+     * Queues a refresh of every cached island, e.g. after block prices changed. Cached values keep being
+     * served until their refresh runs.
+     */
+    public void requestAllCached() {
+        for (UUID islandId : latestByIsland.keys()) {
+            requestIsland(islandId);
+        }
+    }
+
+    private void requestPlayer(UUID playerId) {
+        if (queuedPlayers.putIfAbsent(playerId, Boolean.TRUE) == null) {
+            playerQueue.add(playerId);
+        }
+    }
+
+    /**
+     * Resolves and remembers the player's island. Main thread only.
+     */
+    private UUID resolvePlayer(UUID playerId) {
+        if (!connector.isAvailable()) return null;
+
+        UUID islandId = connector.getIslandUuid(connector.getIslandForPlayer(playerId));
+        islandByPlayer.put(playerId, new PlayerIsland(islandId == null ? NO_ISLAND : islandId, System.currentTimeMillis()));
+        return islandId;
+    }
+
+    private void drainQueues() {
+        if (!connector.isAvailable()) return;
+
+        long deadline = System.nanoTime() + DRAIN_BUDGET_NANOS;
+
+        UUID playerId;
+        while (System.nanoTime() < deadline && (playerId = playerQueue.poll()) != null) {
+            queuedPlayers.remove(playerId);
+            UUID islandId = resolvePlayer(playerId);
+            if (islandId != null && !latestByIsland.containsKey(islandId)) requestIsland(islandId);
+        }
+
+        UUID islandId;
+        while (System.nanoTime() < deadline && (islandId = islandQueue.poll()) != null) {
+            Long queuedAtMs = queuedIslands.remove(islandId);
+
+            // Already refreshed (e.g. by the hologram) since it was queued.
+            IslandValue latest = latestByIsland.peek(islandId);
+            if (latest != null && queuedAtMs != null && latest.updatedAtMs() >= queuedAtMs) continue;
+
+            refresh(islandId);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        requestPlayer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        islandByPlayer.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void registerSuperiorHooks() {
+        // Worth changes: refresh islands someone has asked about.
+        worthEvents.subscribe(islandId -> {
+            if (latestByIsland.containsKey(islandId)) requestIsland(islandId);
+        });
+
+        // Membership changes: forget the player's island so it's resolved again.
+        for (String eventName : new String[]{"IslandJoinEvent", "IslandQuitEvent", "IslandKickEvent"}) {
+            connector.registerEventHook(plugin, this, eventName, EventPriority.MONITOR, event -> {
+                UUID playerId = connector.getEventPlayerUuid(event);
+                if (playerId != null && islandByPlayer.remove(playerId) != null) requestPlayer(playerId);
+            });
+        }
+
+        connector.registerEventHook(plugin, this, "IslandTransferEvent", EventPriority.MONITOR, event -> {
+            UUID islandId = connector.getIslandUuid(connector.getEventIsland(event));
+            if (islandId != null && latestByIsland.containsKey(islandId)) requestIsland(islandId);
+        });
+
+        connector.registerEventHook(plugin, this, "IslandDisbandEvent", EventPriority.MONITOR, event -> {
+            UUID islandId = connector.getIslandUuid(connector.getEventIsland(event));
+            if (islandId == null) return;
+            latestByIsland.remove(islandId);
+            snapshotStore.invalidate(islandId);
+            islandByPlayer.values().removeIf(mapping -> islandId.equals(mapping.islandId()));
+        });
+    }
+
+    private record PlayerIsland(UUID islandId, long resolvedAtMs) {
+    }
+}
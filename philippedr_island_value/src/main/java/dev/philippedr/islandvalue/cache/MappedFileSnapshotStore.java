@@ -0,0 +1,243 @@
+package dev.philippedr.islandvalue.cache;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Backend sharing snapshots between server instances on the same host through a memory-mapped file.
+ *
+ * The file is a fixed table of slots, each addressed by island UUID (a colliding island simply
+ * overwrites the slot; this is a cache). Slot layout:
+ * <pre>
+ *   [0]  long seq           odd while a writer is inside the slot
+ *   [8]  long uuidMost
+ *   [16] long uuidLeast
+ *   [24] long worthVersion
+ *   [32] int  length        payload bytes
+ *   [36] int  crc32         of the payload
+ *   [40] payload            SnapshotCodec bytes
+ * </pre>
+ * Writers take a file lock on the slot region (skipping the write if another process holds it) and bump
+ * seq to odd, write, then bump it to even.
+ * Readers copy the slot out and only accept it if seq was even and unchanged across the copy and
+ * the CRC matches, so torn reads from a concurrent writer on another process are discarded.
+ */
+public final class MappedFileSnapshotStore implements SnapshotStore {
+
+    private static final int MAGIC = 0x49565343; // "IVSC"
+    private static final int LAYOUT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_HEADER_SIZE = 40;
+
+    private static final int OFF_SEQ = 0;
+    private static final int OFF_UUID_MOST = 8;
+    private static final int OFF_UUID_LEAST = 16;
+    private static final int OFF_VERSION = 24;
+    private static final int OFF_LENGTH = 32;
+    private static final int OFF_CRC = 36;
+
+    private static final int READ_ATTEMPTS = 3;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Logger logger;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final int slotSize;
+
+    public MappedFileSnapshotStore(Path file, int slotCount, int slotSize, Logger logger) throws IOException {
+        if (slotCount <= 0) throw new IllegalArgumentException("slotCount must be positive");
+        if (slotSize < SLOT_HEADER_SIZE + 64 || slotSize % 8 != 0) {
+            throw new IllegalArgumentException("slotSize must be a multiple of 8 and at least " + (SLOT_HEADER_SIZE + 64));
+        }
+
+        this.logger = logger;
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        long size = HEADER_SIZE + (long) slotCount * slotSize;
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("Shared cache file would exceed 2 GiB");
+
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped;
+        try (FileLock ignored = opened.lock(0, HEADER_SIZE, false)) {
+            // Never shrink: other servers may have the file mapped.
+            if (opened.size() < size) {
+                opened.write(ByteBuffer.allocate(1), size - 1);
+            }
+            mapped = opened.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mapped.order(ByteOrder.nativeOrder());
+            initHeader(mapped, size);
+        } catch (IOException | RuntimeException e) {
+            opened.close();
+            throw e;
+        }
+
+        this.channel = opened;
+        this.buffer = mapped;
+    }
+
+    private void initHeader(MappedByteBuffer buffer, long size) throws IOException {
+        int magic = buffer.getInt(0);
+        if (magic == 0) {
+            buffer.putInt(4, LAYOUT_VERSION);
+            buffer.putInt(8, slotCount);
+            buffer.putInt(12, slotSize);
+            buffer.putInt(0, MAGIC);
+            buffer.force();
+            return;
+        }
+
+        if (magic != MAGIC || buffer.getInt(4) != LAYOUT_VERSION
+                || buffer.getInt(8) != slotCount || buffer.getInt(12) != slotSize) {
+            throw new IOException("Shared cache file has a different layout (size " + size
+                    + "); use the same slots/slot-size on every server or delete the file");
+        }
+    }
+
+    @Override
+    public IslandSnapshot get(UUID islandId, long worthVersion) {
+        if (islandId == null) return null;
+
+        int base = slotOffset(islandId);
+        byte[] payload = new byte[slotSize - SLOT_HEADER_SIZE];
+
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            long seq = (long) LONGS.getAcquire(buffer, base + OFF_SEQ);
+            if (seq == 0L) return null;
+            if ((seq & 1L) != 0L) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long most = buffer.getLong(base + OFF_UUID_MOST);
+            long least = buffer.getLong(base + OFF_UUID_LEAST);
+            long version = buffer.getLong(base + OFF_VERSION);
+            int length = buffer.getInt(base + OFF_LENGTH);
+            int crc = buffer.getInt(base + OFF_CRC);
+            if (length < 0 || length > payload.length) continue;
+            buffer.get(base + SLOT_HEADER_SIZE, payload, 0, length);
+
+            VarHandle.acquireFence();
+            if ((long) LONGS.getVolatile(buffer, base + OFF_SEQ) != seq) continue;
+
+            if (most != islandId.getMostSignificantBits() || least != islandId.getLeastSignificantBits()) return null;
+            if (version != worthVersion) return null;
+            if (crc32(payload, length) != crc) continue;
+
+            try {
+                IslandSnapshot snapshot = SnapshotCodec.decode(payload, length);
+                return islandId.equals(snapshot.islandId()) ? snapshot : null;
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public synchronized void put(IslandSnapshot snapshot) {
+        if (snapshot == null || snapshot.islandId() == null) return;
+
+        byte[] payload;
+        try {
+            payload = SnapshotCodec.encode(snapshot);
+        } catch (IOException e) {
+            return;
+        }
+        // Too large for a slot; this island just isn't shared.
+        if (payload.length > slotSize - SLOT_HEADER_SIZE) return;
+
+        UUID islandId = snapshot.islandId();
+        int base = slotOffset(islandId);
+        try (FileLock lock = channel.tryLock(base, slotSize, false)) {
+            // Another server is writing this slot; skip sharing rather than block the main thread.
+            if (lock == null) return;
+
+            long seq = (long) LONGS.getVolatile(buffer, base + OFF_SEQ);
+            if ((seq & 1L) != 0L) seq++; // A writer died mid-update; the slot content is garbage either way.
+
+            LONGS.setVolatile(buffer, base + OFF_SEQ, seq + 1);
+            // Keep the slot writes below from becoming visible before the odd seq.
+            VarHandle.storeStoreFence();
+            buffer.putLong(base + OFF_UUID_MOST, islandId.getMostSignificantBits());
+            buffer.putLong(base + OFF_UUID_LEAST, islandId.getLeastSignificantBits());
+            buffer.putLong(base + OFF_VERSION, snapshot.worthVersion());
+            buffer.putInt(base + OFF_LENGTH, payload.length);
+            buffer.putInt(base + OFF_CRC, crc32(payload, payload.length));
+            buffer.put(base + SLOT_HEADER_SIZE, payload, 0, payload.length);
+            LONGS.setRelease(buffer, base + OFF_SEQ, seq + 2);
+        } catch (IOException | OverlappingFileLockException e) {
+            logger.log(Level.FINE, "Couldn't lock shared cache slot for island " + islandId, e);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(UUID islandId) {
+        if (islandId == null) return;
+
+        int base = slotOffset(islandId);
+        try (FileLock lock = channel.tryLock(base, slotSize, false)) {
+            if (lock == null) return;
+            if (buffer.getLong(base + OFF_UUID_MOST) != islandId.getMostSignificantBits()
+                    || buffer.getLong(base + OFF_UUID_LEAST) != islandId.getLeastSignificantBits()) {
+                return;
+            }
+            long seq = (long) LONGS.getVolatile(buffer, base + OFF_SEQ);
+            if ((seq & 1L) != 0L) seq++;
+            LONGS.setVolatile(buffer, base + OFF_SEQ, seq + 1);
+            VarHandle.storeStoreFence();
+            buffer.putInt(base + OFF_LENGTH, 0);
+            buffer.putLong(base + OFF_VERSION, 0L);
+            LONGS.setRelease(buffer, base + OFF_SEQ, seq + 2);
+        } catch (IOException | OverlappingFileLockException e) {
+            logger.log(Level.FINE, "Couldn't lock shared cache slot for island " + islandId, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "mapped-file";
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Couldn't close shared island cache file", e);
+        }
+    }
+
+    private int slotOffset(UUID islandId) {
+        long h = islandId.getMostSignificantBits() ^ islandId.getLeastSignificantBits();
+        int slot = (int) Long.remainderUnsigned(h ^ (h >>> 32), slotCount);
+        return HEADER_SIZE + slot * slotSize;
+    }
+
+    private static int crc32(byte[] data, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.philippedr.islandvalue.cache;
+
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary encoding of {@link IslandSnapshot} for out-of-process backends.
+ */
+final class SnapshotCodec {
+
+    private static final int FORMAT = 1;
+
+    private SnapshotCodec() {
+    }
+
+    static byte[] encode(IslandSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeByte(FORMAT);
+        out.writeLong(snapshot.islandId().getMostSignificantBits());
+        out.writeLong(snapshot.islandId().getLeastSignificantBits());
+        out.writeLong(snapshot.worthVersion());
+        out.writeLong(snapshot.computedAtMs());
+        writeDecimal(out, snapshot.worth());
+        writeDecimal(out, snapshot.rawWorth());
+        writeDecimal(out, snapshot.bonusWorth());
+
+        out.writeShort(snapshot.topBlocks().size());
+        for (BlockWorthLine line : snapshot.topBlocks()) {
+            out.writeUTF(line.key());
+            out.writeUTF(line.amount().toString());
+            writeDecimal(out, line.worthEach());
+            writeDecimal(out, line.worthTotal());
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static IslandSnapshot decode(byte[] data, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length));
+
+        if (in.readUnsignedByte() != FORMAT) throw new IOException("Unknown snapshot format");
+        UUID islandId = new UUID(in.readLong(), in.readLong());
+        long worthVersion = in.readLong();
+        long computedAtMs = in.readLong();
+        BigDecimal worth = readDecimal(in);
+        BigDecimal rawWorth = readDecimal(in);
+        BigDecimal bonusWorth = readDecimal(in);
+
+        int lineCount = in.readUnsignedShort();
+        List<BlockWorthLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            String key = in.readUTF();
+            BigInteger amount = new BigInteger(in.readUTF());
+            BigDecimal worthEach = readDecimal(in);
+            BigDecimal worthTotal = readDecimal(in);
+            lines.add(new BlockWorthLine(key, amount, worthEach, worthTotal));
+        }
+
+        return new IslandSnapshot(islandId, worthVersion, computedAtMs, worth, rawWorth, bonusWorth, lines);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value.toString());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new BigDecimal(in.readUTF()) : null;
+    }
+}
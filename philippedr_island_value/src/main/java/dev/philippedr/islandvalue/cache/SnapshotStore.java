@@ -0,0 +1,24 @@
+package dev.philippedr.islandvalue.cache;
+
+import java.util.UUID;
+
+/**
+ * Backend holding computed island snapshots, possibly shared with other server instances.
+ */
+public interface SnapshotStore extends AutoCloseable {
+
+    /**
+     * Returns the snapshot for the island at exactly this worth version, or null on a miss.
+     */
+    IslandSnapshot get(UUID islandId, long worthVersion);
+
+    void put(IslandSnapshot snapshot);
+
+    void invalidate(UUID islandId);
+
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
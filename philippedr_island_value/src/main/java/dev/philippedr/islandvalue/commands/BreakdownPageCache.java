@@ -0,0 +1,51 @@
+package dev.philippedr.islandvalue.commands;
+
+import dev.philippedr.islandvalue.cache.BoundedCache;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.IslandWorthDetails;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Short-lived per-island cache of the full sorted, clamped breakdown behind {@code /isvalue <player> [page]},
+ * so flipping through pages doesn't recompute it. Entries older than the TTL are treated as absent.
+ */
+final class BreakdownPageCache {
+
+    private final long ttlMs;
+    private final BoundedCache<UUID, Breakdown> breakdowns;
+
+    BreakdownPageCache(long ttlMs, long maxWeightBytes) {
+        this.ttlMs = ttlMs;
+        this.breakdowns = new BoundedCache<>(maxWeightBytes, ttlMs, Breakdown::estimatedBytes);
+    }
+
+    Breakdown get(UUID islandId) {
+        Breakdown breakdown = breakdowns.get(islandId);
+        if (breakdown == null || System.currentTimeMillis() - breakdown.computedAtMs > ttlMs) return null;
+        return breakdown;
+    }
+
+    void put(UUID islandId, Breakdown breakdown) {
+        breakdowns.put(islandId, breakdown);
+    }
+
+    record Breakdown(IslandWorthDetails details, List<BlockWorthLine> lines, long computedAtMs) {
+
+        Breakdown {
+            lines = List.copyOf(lines);
+        }
+
+        int pageCount(int pageSize) {
+            return Math.max(1, (lines.size() + pageSize - 1) / pageSize);
+        }
+
+        /**
+         * Rough heap size: the worth details plus each block line.
+         */
+        long estimatedBytes() {
+            return 256L + lines.size() * 200L;
+        }
+    }
+}
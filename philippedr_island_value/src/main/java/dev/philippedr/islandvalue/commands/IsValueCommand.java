@@ -1,10 +1,25 @@
 package dev.philippedr.islandvalue.commands;
 
 import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.audit.WorthAuditor;
+import dev.philippedr.islandvalue.cache.BoundedCache;
+import dev.philippedr.islandvalue.cache.IslandPrefetcher;
+import dev.philippedr.islandvalue.cache.IslandValueCache;
+import dev.philippedr.islandvalue.diagnostics.CommandLookupEvent;
+import dev.philippedr.islandvalue.export.IslandValueExporter;
+import dev.philippedr.islandvalue.hologram.HolographicValue;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.recalc.WorthRecalculator;
+import dev.philippedr.islandvalue.superiorskyblock.BlockAnalyticsIndex;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector.Capability;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.IslandWorthDetails;
-import org.bukkit.ChatColor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -13,20 +28,61 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class IsValueCommand implements CommandExecutor, TabCompleter {
 
+    private static final String ADMIN_PERMISSION = "philippedr_island_value.admin";
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    private static final int PAGE_SIZE = 8;
+    private static final int BLOCKS_DEFAULT_TOP = 10;
+    private static final int BLOCKS_MAX_TOP = 50;
+    private static final int RECALC_DEFAULT_TOP = 100;
+    private static final long PAGE_CACHE_TTL_MS = 30_000L;
+
     private final PhilippeDrIslandValuePlugin plugin;
     private final SuperiorSkyblock2IslandValueCheck islandValueCheck;
+    private final IslandValueExporter exporter;
+    private final WorthAuditor auditor;
+    private final WorthRecalculator recalculator;
+    private final IslandValueCache valueCache;
+    private final HolographicValue holographicValue;
+    private final IslandPrefetcher prefetcher;
+    private final BlockAnalyticsIndex blockIndex;
+    private final Messages messages;
+    private final BreakdownPageCache pageCache = new BreakdownPageCache(PAGE_CACHE_TTL_MS, 1024L * 1024L);
 
-    public IsValueCommand(PhilippeDrIslandValuePlugin plugin, SuperiorSkyblock2IslandValueCheck islandValueCheck) {
+    public IsValueCommand(
+            PhilippeDrIslandValuePlugin plugin,
+            SuperiorSkyblock2IslandValueCheck islandValueCheck,
+            IslandValueExporter exporter,
+            WorthAuditor auditor,
+            WorthRecalculator recalculator,
+            IslandValueCache valueCache,
+            HolographicValue holographicValue,
+            IslandPrefetcher prefetcher,
+            BlockAnalyticsIndex blockIndex,
+            Messages messages
+    ) {
         this.plugin = plugin;
         this.islandValueCheck = islandValueCheck;
+        this.exporter = exporter;
+        this.auditor = auditor;
+        this.recalculator = recalculator;
+        this.valueCache = valueCache;
+        this.holographicValue = holographicValue;
+        this.prefetcher = prefetcher;
+        this.blockIndex = blockIndex;
+        this.messages = messages;
     }
 
     @Override
@@ -37,54 +93,344 @@ public final class IsValueCommand implements CommandExecutor, TabCompleter {
             @NotNull String[] args
     ) {
         if (args.length == 0) {
-            sender.sendMessage(ChatColor.YELLOW + "Usage: /" + label + " info");
+            sender.sendMessage(messages.get(sender, "command.usage", label));
             return true;
         }
 
         if (args[0].equalsIgnoreCase("info")) {
-            sender.sendMessage(ChatColor.AQUA + "philippedr_island_value" + ChatColor.GRAY + " v" + plugin.getDescription().getVersion());
-            sender.sendMessage(ChatColor.GRAY + "Paper: " + ChatColor.WHITE + plugin.getServer().getName());
-            sender.sendMessage(ChatColor.GRAY + "Command: " + ChatColor.WHITE + "/" + label + " info");
+            Locale locale = messages.localeOf(sender);
+            sender.sendMessage(messages.get(locale, "command.info.header", plugin.getDescription().getVersion()));
+            sender.sendMessage(messages.get(locale, "command.info.server", plugin.getServer().getName()));
+            sender.sendMessage(messages.get(locale, "command.info.command", label));
+            if (sender.hasPermission(ADMIN_PERMISSION)) {
+                sender.sendMessage(formatCacheStats(locale, "command.info.cache-values", valueCache.cacheStats()));
+                sender.sendMessage(formatCacheStats(locale, "command.info.cache-hologram", holographicValue.cacheStats()));
+                IslandPrefetcher.Stats prefetch = prefetcher.stats();
+                sender.sendMessage(messages.get(locale, "command.info.prefetch",
+                        String.valueOf(prefetch.warmed()),
+                        String.valueOf(prefetch.used()),
+                        String.format(Locale.ROOT, "%.1f%%", prefetch.hitRate() * 100.0),
+                        String.valueOf(prefetch.arrivals())));
+                BlockAnalyticsIndex.Stats blocks = blockIndex.stats();
+                sender.sendMessage(messages.get(locale, "command.info.blocks",
+                        String.valueOf(blocks.islands()),
+                        String.valueOf(blocks.keys()),
+                        String.valueOf(blocks.estimatedBytes() / 1024)));
+            }
             return true;
         }
 
-        if (args.length == 1) {
-            String targetName = args[0];
+        if (args[0].equalsIgnoreCase("export") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return handleExport(sender, label, args);
+        }
+
+        if (args[0].equalsIgnoreCase("audit") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return handleAudit(sender, label, args);
+        }
+
+        if (args[0].equalsIgnoreCase("recalc") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return handleRecalc(sender, label, args);
+        }
+
+        if (args[0].equalsIgnoreCase("blocks") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return handleBlocks(sender, label, args);
+        }
+
+        if (args.length <= 2) {
+            return handleValue(sender, label, args);
+        }
+
+        sender.sendMessage(messages.get(sender, "command.unknown", label));
+        return true;
+    }
+
+    private boolean handleValue(CommandSender sender, String label, String[] args) {
+        Locale locale = messages.localeOf(sender);
+        String targetName = args[0];
+
+        int page = 1;
+        if (args.length > 1) {
+            try {
+                page = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                page = 0;
+            }
+            if (page < 1) {
+                sender.sendMessage(messages.get(locale, "command.value.usage", label));
+                return true;
+            }
+        }
+
+        CommandLookupEvent event = new CommandLookupEvent();
+        event.begin();
+
+        Object island = islandValueCheck.getIslandByUsername(targetName);
+        UUID islandId = islandValueCheck.getIslandId(island);
+        if (islandId == null) {
+            sender.sendMessage(messages.get(locale, "command.value.not-found", targetName));
+            commitLookup(event, targetName, null, page, false);
+            return true;
+        }
+
+        BreakdownPageCache.Breakdown breakdown = pageCache.get(islandId);
+        boolean cached = breakdown != null;
+        if (breakdown == null) {
+            Optional<IslandWorthDetails> details = islandValueCheck.getIslandWorthDetails(island);
+            if (details.isEmpty()) {
+                sender.sendMessage(messages.get(locale, "command.value.not-found", targetName));
+                commitLookup(event, targetName, islandId, page, false);
+                return true;
+            }
+            breakdown = new BreakdownPageCache.Breakdown(details.get(), islandValueCheck.getTopWorthBlocks(island, 0), System.currentTimeMillis());
+            pageCache.put(islandId, breakdown);
+        }
+
+        // One component per page: a single chat packet regardless of how many lines it holds.
+        sender.sendMessage(renderPage(locale, label, targetName, breakdown, Math.min(page, breakdown.pageCount(PAGE_SIZE))));
+        commitLookup(event, targetName, islandId, page, cached);
+        return true;
+    }
+
+    private static void commitLookup(CommandLookupEvent event, String targetName, UUID islandId, int page, boolean cached) {
+        if (!event.shouldCommit()) return;
+        event.target = targetName;
+        event.islandId = islandId == null ? null : islandId.toString();
+        event.page = page;
+        event.cached = cached;
+        event.commit();
+    }
+
+    private Component renderPage(Locale locale, String label, String targetName, BreakdownPageCache.Breakdown breakdown, int page) {
+        IslandWorthDetails details = breakdown.details();
+        List<BlockWorthLine> lines = breakdown.lines();
+        int pages = breakdown.pageCount(PAGE_SIZE);
+
+        TextComponent.Builder out = Component.text();
+        out.append(legacy(locale, "command.value.header", targetName, SuperiorSkyblock2IslandValueCheck.formatDecimal(details.worth()))
+                .hoverEvent(HoverEvent.showText(legacy(locale, "command.value.header-hover",
+                        SuperiorSkyblock2IslandValueCheck.formatDecimal(details.worth()),
+                        SuperiorSkyblock2IslandValueCheck.formatDecimal(details.rawWorth()),
+                        SuperiorSkyblock2IslandValueCheck.formatDecimal(details.bonusWorth())))));
+
+        if (lines.isEmpty()) {
+            out.appendNewline().append(legacy(locale, "command.value.no-breakdown"));
+            return out.build();
+        }
+
+        out.appendNewline().append(legacy(locale, "command.value.top-blocks", String.valueOf(lines.size())));
+
+        int from = (page - 1) * PAGE_SIZE;
+        int to = Math.min(lines.size(), from + PAGE_SIZE);
+        for (int i = from; i < to; i++) {
+            BlockWorthLine line = lines.get(i);
+            String amount = String.valueOf(line.amount());
+            String each = SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthEach());
+            String total = SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthTotal());
+            String share = line.worthTotal().multiply(BigDecimal.valueOf(100))
+                    .divide(details.worth(), 1, RoundingMode.HALF_UP).toPlainString();
+
+            out.appendNewline().append(legacy(locale, "command.value.top-block", String.valueOf(i + 1), line.key(), amount, each, total)
+                    .hoverEvent(HoverEvent.showText(legacy(locale, "command.value.block-hover", line.key(), amount, each, total, share))));
+        }
+
+        if (pages > 1) {
+            out.appendNewline()
+                    .append(pageButton(locale, label, targetName, page - 1, page > 1, "command.value.previous"))
+                    .append(Component.text("  "))
+                    .append(legacy(locale, "command.value.page", String.valueOf(page), String.valueOf(pages)))
+                    .append(Component.text("  "))
+                    .append(pageButton(locale, label, targetName, page + 1, page < pages, "command.value.next"));
+        }
+
+        return out.build();
+    }
+
+    private Component pageButton(Locale locale, String label, String targetName, int targetPage, boolean enabled, String key) {
+        if (!enabled) return legacy(locale, key + "-disabled");
+
+        return legacy(locale, key)
+                .hoverEvent(HoverEvent.showText(legacy(locale, "command.value.page-hover", String.valueOf(targetPage))))
+                .clickEvent(ClickEvent.runCommand("/" + label + " " + targetName + " " + targetPage));
+    }
+
+    private Component legacy(Locale locale, String key, Object... args) {
+        return LEGACY.deserialize(messages.get(locale, key, args));
+    }
+
+    private String formatCacheStats(Locale locale, String nameKey, BoundedCache.Stats stats) {
+        return messages.get(locale, "command.info.cache",
+                messages.get(locale, nameKey),
+                String.valueOf(stats.size()),
+                String.valueOf(stats.weight() / 1024),
+                String.valueOf(stats.maxWeight() / 1024),
+                String.format(Locale.ROOT, "%.1f%%", stats.hitRate() * 100.0),
+                String.valueOf(stats.evictions()),
+                String.valueOf(stats.expirations()));
+    }
+
+    private boolean handleExport(CommandSender sender, String label, String[] args) {
+        if (!islandValueCheck.isAvailable()) {
+            sender.sendMessage(messages.get(sender, "command.not-installed"));
+            return true;
+        }
+        if (!islandValueCheck.supports(Capability.ISLAND_LIST)) {
+            sender.sendMessage(messages.get(sender, "command.unsupported"));
+            return true;
+        }
+
+        IslandValueExporter.Format format = IslandValueExporter.Format.parse(args.length > 1 ? args[1] : null);
+        if (format == null) {
+            sender.sendMessage(messages.get(sender, "command.export.usage", label));
+            return true;
+        }
+
+        if (!exporter.start(sender, format)) {
+            sender.sendMessage(messages.get(sender, "command.export.running"));
+        }
+        return true;
+    }
+
+    private boolean handleAudit(CommandSender sender, String label, String[] args) {
+        if (!islandValueCheck.isAvailable()) {
+            sender.sendMessage(messages.get(sender, "command.not-installed"));
+            return true;
+        }
+        if (!islandValueCheck.supports(Capability.ISLAND_LIST, Capability.BLOCK_COUNTS, Capability.BLOCK_VALUES)) {
+            sender.sendMessage(messages.get(sender, "command.unsupported"));
+            return true;
+        }
 
-            Optional<IslandWorthDetails> detailsOpt = islandValueCheck.getIslandWorthDetailsByUsername(targetName);
-            if (detailsOpt.isEmpty()) {
-                sender.sendMessage(ChatColor.RED + "Couldn't get island value for '" + targetName + "'. (No island / player not found / SuperiorSkyblock2 not installed)");
+        double thresholdPercent = 1.0;
+        if (args.length > 1) {
+            try {
+                thresholdPercent = Double.parseDouble(args[1].replace("%", ""));
+            } catch (NumberFormatException e) {
+                thresholdPercent = -1.0;
+            }
+            if (thresholdPercent < 0.0 || Double.isNaN(thresholdPercent) || Double.isInfinite(thresholdPercent)) {
+                sender.sendMessage(messages.get(sender, "command.audit.usage", label));
                 return true;
             }
+        }
 
-            IslandWorthDetails details = detailsOpt.get();
-            sender.sendMessage(ChatColor.GRAY + "Island value for " + ChatColor.AQUA + targetName + ChatColor.GRAY + ": " + ChatColor.GREEN + SuperiorSkyblock2IslandValueCheck.formatDecimal(details.worth()));
-
-            Optional<List<BlockWorthLine>> topBlocksOpt = islandValueCheck.getTopWorthBlocksByUsername(targetName, 10);
-            if (topBlocksOpt.isPresent()) {
-                List<BlockWorthLine> topBlocks = topBlocksOpt.get();
-                if (topBlocks.isEmpty()) {
-                    sender.sendMessage(ChatColor.DARK_GRAY + "  (No block breakdown available)");
-                } else {
-                    sender.sendMessage(ChatColor.GRAY + "Top blocks:" );
-                    int idx = 1;
-                    for (BlockWorthLine line : topBlocks) {
-                        sender.sendMessage(
-                                ChatColor.DARK_GRAY + "  " + idx + ") " +
-                                        ChatColor.WHITE + line.key() +
-                                        ChatColor.GRAY + " x" + ChatColor.WHITE + line.amount() +
-                                        ChatColor.GRAY + " @ " + ChatColor.WHITE + SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthEach()) +
-                                        ChatColor.GRAY + " = " + ChatColor.GREEN + SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthTotal())
-                        );
-                        idx++;
-                    }
-                }
+        if (!auditor.start(sender, thresholdPercent)) {
+            sender.sendMessage(messages.get(sender, "command.audit.running"));
+        }
+        return true;
+    }
+
+    private boolean handleRecalc(CommandSender sender, String label, String[] args) {
+        String action = args.length > 1 ? args[1].toLowerCase(Locale.ROOT) : "all";
+        switch (action) {
+            case "status" -> {
+                recalculator.sendStatus(sender);
+                return true;
+            }
+            case "pause" -> {
+                sender.sendMessage(messages.get(sender, recalculator.pause() ? "command.recalc.paused" : "command.recalc.not-running"));
+                return true;
+            }
+            case "resume" -> {
+                sender.sendMessage(messages.get(sender, recalculator.resume() ? "command.recalc.resumed" : "command.recalc.not-running"));
+                return true;
+            }
+            case "cancel" -> {
+                if (!recalculator.cancel()) sender.sendMessage(messages.get(sender, "command.recalc.not-running"));
+                return true;
             }
+            default -> {
+            }
+        }
 
+        WorthRecalculator.Scope scope = switch (action) {
+            case "all" -> WorthRecalculator.Scope.ALL;
+            case "online" -> WorthRecalculator.Scope.ONLINE;
+            case "top" -> WorthRecalculator.Scope.TOP;
+            default -> null;
+        };
+        int top = RECALC_DEFAULT_TOP;
+        if (scope == WorthRecalculator.Scope.TOP && args.length > 2) {
+            try {
+                top = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                top = 0;
+            }
+        }
+        if (scope == null || top < 1 || args.length > (scope == WorthRecalculator.Scope.TOP ? 3 : 2)) {
+            sender.sendMessage(messages.get(sender, "command.recalc.usage", label));
             return true;
         }
 
-        sender.sendMessage(ChatColor.RED + "Unknown subcommand. Try: /" + label + " info");
+        if (!islandValueCheck.isAvailable()) {
+            sender.sendMessage(messages.get(sender, "command.not-installed"));
+            return true;
+        }
+        Capability listing = switch (scope) {
+            case ONLINE -> Capability.PLAYER_ISLAND;
+            case TOP -> Capability.WORTH_LEADERBOARD;
+            default -> Capability.ISLAND_LIST;
+        };
+        if (!islandValueCheck.supports(Capability.WORTH_RECALC, listing)) {
+            sender.sendMessage(messages.get(sender, "command.unsupported"));
+            return true;
+        }
+        if (recalculator.isRunning()) {
+            sender.sendMessage(messages.get(sender, "command.recalc.running", label));
+            return true;
+        }
+
+        String description = scope == WorthRecalculator.Scope.TOP
+                ? messages.get(sender, "recalc.scope.top", String.valueOf(top))
+                : messages.get(sender, "recalc.scope." + action);
+        recalculator.start(sender, recalculator.islandsFor(scope, top), description);
+        return true;
+    }
+
+    private boolean handleBlocks(CommandSender sender, String label, String[] args) {
+        Locale locale = messages.localeOf(sender);
+        if (!islandValueCheck.isAvailable()) {
+            sender.sendMessage(messages.get(locale, "command.not-installed"));
+            return true;
+        }
+        if (!islandValueCheck.supports(Capability.ISLAND_LIST, Capability.BLOCK_COUNTS)) {
+            sender.sendMessage(messages.get(locale, "command.unsupported"));
+            return true;
+        }
+
+        int top = BLOCKS_DEFAULT_TOP;
+        if (args.length > 2) {
+            try {
+                top = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                top = 0;
+            }
+        }
+        if (args.length < 2 || args.length > 3 || top < 1) {
+            sender.sendMessage(messages.get(locale, "command.blocks.usage", label));
+            return true;
+        }
+
+        if (!blockIndex.isBuilt()) {
+            sender.sendMessage(messages.get(locale, "command.blocks.building",
+                    String.valueOf(blockIndex.buildProcessed()), String.valueOf(blockIndex.buildTotal())));
+        }
+
+        BlockAnalyticsIndex.KeyReport report = blockIndex.query(args[1], Math.min(top, BLOCKS_MAX_TOP));
+        if (report == null || report.islands() == 0) {
+            sender.sendMessage(messages.get(locale, "command.blocks.unknown-key", args[1]));
+            return true;
+        }
+
+        sender.sendMessage(messages.get(locale, "command.blocks.header",
+                report.key(), String.valueOf(report.total()), String.valueOf(report.islands())));
+        int rank = 1;
+        for (BlockAnalyticsIndex.IslandCount entry : report.top()) {
+            String owner = entry.ownerName() == null || entry.ownerName().isBlank()
+                    ? entry.islandId().toString()
+                    : entry.ownerName();
+            sender.sendMessage(messages.get(locale, "command.blocks.line",
+                    String.valueOf(rank++), owner, String.valueOf(entry.count())));
+        }
         return true;
     }
 
@@ -98,10 +444,28 @@ public final class IsValueCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             List<String> suggestions = new ArrayList<>();
             suggestions.add("info");
+            if (sender.hasPermission(ADMIN_PERMISSION)) {
+                suggestions.add("export");
+                suggestions.add("audit");
+                suggestions.add("blocks");
+                suggestions.add("recalc");
+            }
             suggestions.addAll(plugin.getServer().getOnlinePlayers().stream().map(Player::getName).collect(Collectors.toList()));
             return filterPrefix(suggestions, args[0]);
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("export") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return filterPrefix(new ArrayList<>(List.of("ndjson", "csv")), args[1]);
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("recalc") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return filterPrefix(new ArrayList<>(List.of("all", "online", "top", "status", "pause", "resume", "cancel")), args[1]);
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("blocks") && sender.hasPermission(ADMIN_PERMISSION)) {
+            return filterPrefix(blockIndex.keyNames(), args[1]);
+        }
+
         return Collections.emptyList();
     }
 
@@ -0,0 +1,31 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("philippedr.islandvalue.CommandLookup")
+@Label("Island Value Command Lookup")
+@Category({"Island Value", "Command"})
+@Description("An /isvalue <player> lookup, from name resolution to the rendered page")
+@Enabled(false)
+@StackTrace(false)
+public final class CommandLookupEvent extends Event {
+
+    @Label("Target")
+    public String target;
+
+    @Label("Island")
+    public String islandId;
+
+    @Label("Page")
+    public int page;
+
+    @Label("Cached")
+    @Description("Whether the breakdown came from the short-lived page cache")
+    public boolean cached;
+}
@@ -0,0 +1,32 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("philippedr.islandvalue.Display")
+@Label("Hologram Display")
+@Category({"Island Value", "Hologram"})
+@Description("A hologram TextDisplay spawned, reused from the pool, parked or removed")
+@Enabled(false)
+@StackTrace(false)
+public final class DisplayEvent extends Event {
+
+    public static final String SPAWN = "spawn";
+    public static final String REUSE = "reuse";
+    public static final String PARK = "park";
+    public static final String REMOVE = "remove";
+
+    @Label("Action")
+    public String action;
+
+    @Label("World")
+    public String world;
+
+    @Label("Viewer")
+    public String viewerId;
+}
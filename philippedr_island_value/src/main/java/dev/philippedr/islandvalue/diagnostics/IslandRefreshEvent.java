@@ -0,0 +1,32 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("philippedr.islandvalue.IslandRefresh")
+@Label("Island Value Refresh")
+@Category({"Island Value", "Cache"})
+@Description("Recomputation of one island's value: worth, rank, owner and block breakdown")
+@Enabled(false)
+@StackTrace(false)
+public final class IslandRefreshEvent extends Event {
+
+    @Label("Island")
+    public String islandId;
+
+    @Label("Block Keys")
+    @Description("Block keys counted on the island")
+    public int keyCount;
+
+    @Label("Snapshot Reused")
+    @Description("Whether the snapshot store already held a snapshot for the island's current worth and blocks")
+    public boolean snapshotReused;
+
+    @Label("Found")
+    public boolean found;
+}
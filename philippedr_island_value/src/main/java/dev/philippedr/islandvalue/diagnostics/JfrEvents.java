@@ -0,0 +1,48 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+import java.util.List;
+
+/**
+ * Java Flight Recorder events of this plugin.
+ *
+ * Every event is disabled by default, so outside a recording that enables them (e.g. with the bundled
+ * {@code island-value.jfc}) instrumented code only pays for an allocation the JIT removes. Registering up
+ * front makes the events show up in recording settings before they first fire; unregistering on disable
+ * lets the plugin class loader be collected after a reload.
+ */
+public final class JfrEvents {
+
+    public static final String SETTINGS_FILE = "island-value.jfc";
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            ViewerTickEvent.class,
+            IslandRefreshEvent.class,
+            DisplayEvent.class,
+            SuperiorCallEvent.class,
+            CommandLookupEvent.class
+    );
+
+    private JfrEvents() {
+    }
+
+    public static void register() {
+        for (Class<? extends Event> event : EVENTS) {
+            try {
+                FlightRecorder.register(event);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    public static void unregister() {
+        for (Class<? extends Event> event : EVENTS) {
+            try {
+                FlightRecorder.unregister(event);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+}
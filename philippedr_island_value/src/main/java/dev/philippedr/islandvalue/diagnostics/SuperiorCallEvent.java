@@ -0,0 +1,25 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("philippedr.islandvalue.SuperiorCall")
+@Label("SuperiorSkyblock2 API Call")
+@Category({"Island Value", "SuperiorSkyblock2"})
+@Description("A reflective call into the SuperiorSkyblock2 API")
+@Enabled(false)
+@StackTrace(false)
+public final class SuperiorCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    @Description("The call threw (e.g. an incompatible argument or an error inside SuperiorSkyblock2)")
+    public boolean failed;
+}
@@ -0,0 +1,27 @@
+package dev.philippedr.islandvalue.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("philippedr.islandvalue.ViewerTick")
+@Label("Hologram Viewer Tick")
+@Category({"Island Value", "Hologram"})
+@Description("A pass placing, moving or removing island holograms for players who crossed an island border, teleported or joined, or for everyone during the reconciliation sweep")
+@Enabled(false)
+@StackTrace(false)
+public final class ViewerTickEvent extends Event {
+
+    @Label("Players")
+    public int players;
+
+    @Label("Active Holograms")
+    public int holograms;
+
+    @Label("Reconciliation Sweep")
+    public boolean sweep;
+}
@@ -0,0 +1,310 @@
+package dev.philippedr.islandvalue.export;
+
+import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.superiorskyblock.IslandGridWalker;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every island's worth and block breakdown to a gzip file in the plugin folder.
+ *
+ * Islands are read on the main thread in time-budgeted batches and handed to a writer thread
+ * through a small bounded queue, so memory use doesn't grow with the number of islands
+ * (apart from the list of island UUIDs taken at the start).
+ */
+public final class IslandValueExporter {
+
+    public enum Format {
+        NDJSON("ndjson"),
+        CSV("csv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public static Format parse(String name) {
+            if (name == null) return NDJSON;
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) return format;
+            }
+            return null;
+        }
+    }
+
+    private static final long BATCH_BUDGET_NANOS = 5_000_000L;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long PROGRESS_INTERVAL_MS = 5_000L;
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final PhilippeDrIslandValuePlugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final SuperiorSkyblock2IslandValueCheck islandValueCheck;
+    private final Messages messages;
+
+    private Export running;
+
+    public IslandValueExporter(
+            PhilippeDrIslandValuePlugin plugin,
+            SuperiorSkyblock2Connector connector,
+            SuperiorSkyblock2IslandValueCheck islandValueCheck,
+            Messages messages
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.islandValueCheck = islandValueCheck;
+        this.messages = messages;
+    }
+
+    public boolean isRunning() {
+        return running != null;
+    }
+
+    /**
+     * Starts an export. Main thread only; returns false if one is already running.
+     */
+    public boolean start(CommandSender sender, Format format) {
+        if (running != null) return false;
+
+        List<UUID> islandIds = connector.getAllIslandUuids();
+        Path file = plugin.getDataFolder().toPath()
+                .resolve("exports")
+                .resolve("island-values-" + LocalDateTime.now().format(FILE_STAMP) + "." + format.extension + ".gz");
+
+        Export export = new Export(sender, format, file);
+        export.walker = new IslandGridWalker(plugin, connector, islandIds, BATCH_BUDGET_NANOS, export::offer, export::finishReading);
+        running = export;
+
+        sender.sendMessage(messages.get(sender, "export.started", String.valueOf(islandIds.size()), String.valueOf(file.getFileName())));
+        export.writerThread.start();
+        export.walker.start();
+        return true;
+    }
+
+    /**
+     * Stops a running export (e.g. on plugin disable). The partial file is kept.
+     */
+    public void cancel() {
+        Export export = running;
+        if (export == null) return;
+        export.walker.cancel();
+        export.finishReading();
+        try {
+            export.writerThread.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running = null;
+    }
+
+    private record Row(UUID islandId, String ownerName, BigDecimal worth, BigDecimal rawWorth, BigDecimal bonusWorth, List<BlockWorthLine> blocks) {
+    }
+
+    private final class Export {
+        private final CommandSender sender;
+        private final Format format;
+        private final Path file;
+        private final BlockingQueue<Row> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Thread writerThread;
+
+        private IslandGridWalker walker;
+        private volatile boolean readingDone;
+        private long lastProgressMs = System.currentTimeMillis();
+
+        Export(CommandSender sender, Format format, Path file) {
+            this.sender = sender;
+            this.format = format;
+            this.file = file;
+            this.writerThread = new Thread(this::writeLoop, "philippedr_island_value-export");
+            this.writerThread.setDaemon(true);
+        }
+
+        // Main thread.
+        boolean offer(UUID islandId, Object island) {
+            if (!writerThread.isAlive()) return true;
+
+            long nowMs = System.currentTimeMillis();
+            if (nowMs - lastProgressMs >= PROGRESS_INTERVAL_MS) {
+                lastProgressMs = nowMs;
+                sender.sendMessage(messages.get(sender, "export.progress", String.valueOf(walker.processed()), String.valueOf(walker.total())));
+            }
+
+            // Writer is behind: keep this island for the next tick.
+            if (queue.remainingCapacity() == 0) return false;
+
+            Row row = new Row(
+                    islandId,
+                    connector.getIslandOwnerName(island),
+                    connector.getIslandWorth(island),
+                    connector.getIslandRawWorth(island),
+                    connector.getIslandBonusWorth(island),
+                    islandValueCheck.getTopWorthBlocksOnce(island, 0)
+            );
+            return queue.offer(row);
+        }
+
+        // Main thread.
+        void finishReading() {
+            readingDone = true;
+        }
+
+        // Writer thread.
+        private void writeLoop() {
+            int written = 0;
+            Throwable failure = null;
+
+            try {
+                Files.createDirectories(file.getParent());
+                try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+                    if (format == Format.CSV) out.write("island_id,owner,worth,raw_worth,bonus_worth,block,amount,worth_each,worth_total\n");
+
+                    while (true) {
+                        Row row = queue.poll(100, TimeUnit.MILLISECONDS);
+                        if (row == null) {
+                            if (readingDone && queue.isEmpty()) break;
+                            continue;
+                        }
+                        if (format == Format.CSV) {
+                            writeCsv(out, row);
+                        } else {
+                            writeJson(out, row);
+                        }
+                        written++;
+                    }
+                }
+            } catch (Throwable t) {
+                failure = t;
+                plugin.getLogger().log(Level.WARNING, "Island value export to " + file + " failed", t);
+            }
+
+            if (!plugin.isEnabled()) return;
+
+            int islands = written;
+            Throwable error = failure;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                walker.cancel();
+                running = null;
+                if (error == null) {
+                    sender.sendMessage(messages.get(sender, "export.finished", String.valueOf(islands), String.valueOf(file)));
+                } else {
+                    sender.sendMessage(messages.get(sender, "export.failed", String.valueOf(islands), String.valueOf(error.getMessage())));
+                }
+            });
+        }
+    }
+
+    private static void writeJson(Writer out, Row row) throws IOException {
+        out.write("{\"island_id\":\"");
+        out.write(row.islandId().toString());
+        out.write("\",\"owner\":");
+        writeJsonString(out, row.ownerName());
+        out.write(",\"worth\":");
+        out.write(jsonNumber(row.worth()));
+        out.write(",\"raw_worth\":");
+        out.write(jsonNumber(row.rawWorth()));
+        out.write(",\"bonus_worth\":");
+        out.write(jsonNumber(row.bonusWorth()));
+        out.write(",\"blocks\":[");
+        boolean first = true;
+        for (BlockWorthLine line : row.blocks()) {
+            if (!first) out.write(',');
+            first = false;
+            out.write("{\"key\":");
+            writeJsonString(out, line.key());
+            out.write(",\"amount\":");
+            out.write(line.amount().toString());
+            out.write(",\"worth_each\":");
+            out.write(jsonNumber(line.worthEach()));
+            out.write(",\"worth_total\":");
+            out.write(jsonNumber(line.worthTotal()));
+            out.write('}');
+        }
+        out.write("]}\n");
+    }
+
+    private static void writeCsv(Writer out, Row row) throws IOException {
+        String prefix = row.islandId() + "," + csv(row.ownerName()) + ","
+                + plain(row.worth()) + "," + plain(row.rawWorth()) + "," + plain(row.bonusWorth()) + ",";
+        if (row.blocks().isEmpty()) {
+            out.write(prefix);
+            out.write(",,,\n");
+            return;
+        }
+        for (BlockWorthLine line : row.blocks()) {
+            out.write(prefix);
+            out.write(csv(line.key()));
+            out.write(',');
+            out.write(line.amount().toString());
+            out.write(',');
+            out.write(plain(line.worthEach()));
+            out.write(',');
+            out.write(plain(line.worthTotal()));
+            out.write('\n');
+        }
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private static String jsonNumber(BigDecimal value) {
+        return value == null ? "null" : value.toPlainString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,63 @@
+package dev.philippedr.islandvalue.hologram;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Index of hologram viewers by the chunk their hologram anchor sits in, so chunk load/unload
+ * events can find affected holograms without scanning every viewer. Main thread only.
+ */
+final class ChunkAnchorIndex {
+
+    private final Map<UUID, Map<Long, Set<UUID>>> viewersByChunk = new HashMap<>();
+    private final Map<UUID, ChunkRef> chunkByViewer = new HashMap<>();
+
+    void put(UUID viewerId, UUID worldId, long chunkKey) {
+        ChunkRef previous = chunkByViewer.get(viewerId);
+        if (previous != null) {
+            if (previous.worldId.equals(worldId) && previous.chunkKey == chunkKey) return;
+            unlink(viewerId, previous);
+        }
+
+        chunkByViewer.put(viewerId, new ChunkRef(worldId, chunkKey));
+        viewersByChunk.computeIfAbsent(worldId, __ -> new HashMap<>())
+                .computeIfAbsent(chunkKey, __ -> new HashSet<>())
+                .add(viewerId);
+    }
+
+    void remove(UUID viewerId) {
+        ChunkRef previous = chunkByViewer.remove(viewerId);
+        if (previous != null) unlink(viewerId, previous);
+    }
+
+    /**
+     * Returns a copy of the viewers anchored in the chunk (safe to modify the index while iterating).
+     */
+    Set<UUID> viewersIn(UUID worldId, long chunkKey) {
+        Map<Long, Set<UUID>> byChunk = viewersByChunk.get(worldId);
+        if (byChunk == null) return Set.of();
+        Set<UUID> viewers = byChunk.get(chunkKey);
+        return viewers == null ? Set.of() : Set.copyOf(viewers);
+    }
+
+    void clear() {
+        viewersByChunk.clear();
+        chunkByViewer.clear();
+    }
+
+    private void unlink(UUID viewerId, ChunkRef ref) {
+        Map<Long, Set<UUID>> byChunk = viewersByChunk.get(ref.worldId);
+        if (byChunk == null) return;
+        Set<UUID> viewers = byChunk.get(ref.chunkKey);
+        if (viewers == null) return;
+        viewers.remove(viewerId);
+        if (viewers.isEmpty()) byChunk.remove(ref.chunkKey);
+        if (byChunk.isEmpty()) viewersByChunk.remove(ref.worldId);
+    }
+
+    private record ChunkRef(UUID worldId, long chunkKey) {
+    }
+}
@@ -0,0 +1,147 @@
+package dev.philippedr.islandvalue.hologram;
+
+import dev.philippedr.islandvalue.diagnostics.DisplayEvent;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-world pool of pre-configured, private TextDisplay entities.
+ *
+ * Displays are spawned invisible by default and only shown to their current viewer, so reusing one
+ * is a teleport plus a text update instead of a spawn, setup calls and a hide loop over every player.
+ * Main thread only.
+ */
+final class DisplayPool {
+
+    private final Plugin plugin;
+    private final int maxIdlePerWorld;
+    private final long idleTtlMs;
+
+    private final Map<UUID, Deque<IdleDisplay>> idleByWorld = new HashMap<>();
+
+    DisplayPool(Plugin plugin, int maxIdlePerWorld, long idleTtlMs) {
+        this.plugin = plugin;
+        this.maxIdlePerWorld = maxIdlePerWorld;
+        this.idleTtlMs = idleTtlMs;
+    }
+
+    /**
+     * Returns a display at the given location that only the viewer can see.
+     */
+    TextDisplay acquire(Player viewer, Location location, Component initialText) {
+        World world = location.getWorld();
+        if (world == null) return null;
+
+        DisplayEvent event = new DisplayEvent();
+        event.begin();
+
+        Deque<IdleDisplay> idle = idleByWorld.get(world.getUID());
+        if (idle != null) {
+            IdleDisplay pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                TextDisplay display = pooled.display;
+                if (!display.isValid()) continue;
+
+                display.teleport(location);
+                display.text(initialText);
+                viewer.showEntity(plugin, display);
+                commit(event, DisplayEvent.REUSE, world, viewer.getUniqueId());
+                return display;
+            }
+        }
+
+        TextDisplay display = world.spawn(location, TextDisplay.class, d -> {
+            d.setVisibleByDefault(false);
+            d.setBillboard(Display.Billboard.CENTER);
+            d.setSeeThrough(true);
+            d.setShadowed(true);
+            d.setPersistent(false);
+            d.setDefaultBackground(false);
+            d.setLineWidth(240);
+            d.text(initialText);
+        });
+        viewer.showEntity(plugin, display);
+        commit(event, DisplayEvent.SPAWN, world, viewer.getUniqueId());
+        return display;
+    }
+
+    /**
+     * Hides the display from its viewer and parks it for reuse, or removes it if the pool is full.
+     */
+    void release(UUID viewerId, TextDisplay display) {
+        if (display == null || !display.isValid()) return;
+
+        DisplayEvent event = new DisplayEvent();
+        event.begin();
+
+        Player viewer = viewerId == null ? null : Bukkit.getPlayer(viewerId);
+        if (viewer != null) viewer.hideEntity(plugin, display);
+
+        Deque<IdleDisplay> idle = idleByWorld.computeIfAbsent(display.getWorld().getUID(), __ -> new ArrayDeque<>());
+        if (idle.size() >= maxIdlePerWorld) {
+            display.remove();
+            commit(event, DisplayEvent.REMOVE, display.getWorld(), viewerId);
+            return;
+        }
+        idle.addFirst(new IdleDisplay(display, System.currentTimeMillis()));
+        commit(event, DisplayEvent.PARK, display.getWorld(), viewerId);
+    }
+
+    /**
+     * Removes idle displays that expired or became invalid (e.g. their chunk unloaded).
+     */
+    void cleanup() {
+        long cutoff = System.currentTimeMillis() - idleTtlMs;
+        Iterator<Deque<IdleDisplay>> worlds = idleByWorld.values().iterator();
+        while (worlds.hasNext()) {
+            Deque<IdleDisplay> idle = worlds.next();
+            Iterator<IdleDisplay> it = idle.iterator();
+            while (it.hasNext()) {
+                IdleDisplay pooled = it.next();
+                if (!pooled.display.isValid()) {
+                    it.remove();
+                } else if (pooled.releasedAtMs < cutoff) {
+                    DisplayEvent event = new DisplayEvent();
+                    event.begin();
+                    pooled.display.remove();
+                    it.remove();
+                    commit(event, DisplayEvent.REMOVE, pooled.display.getWorld(), null);
+                }
+            }
+            if (idle.isEmpty()) worlds.remove();
+        }
+    }
+
+    void clear() {
+        for (Deque<IdleDisplay> idle : idleByWorld.values()) {
+            for (IdleDisplay pooled : idle) {
+                if (pooled.display.isValid()) pooled.display.remove();
+            }
+        }
+        idleByWorld.clear();
+    }
+
+    private static void commit(DisplayEvent event, String action, World world, UUID viewerId) {
+        if (!event.shouldCommit()) return;
+        event.action = action;
+        event.world = world.getName();
+        event.viewerId = viewerId == null ? null : viewerId.toString();
+        event.commit();
+    }
+
+    private record IdleDisplay(TextDisplay display, long releasedAtMs) {
+    }
+}
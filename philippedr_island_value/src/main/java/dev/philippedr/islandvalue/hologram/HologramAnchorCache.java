@@ -0,0 +1,123 @@
+package dev.philippedr.islandvalue.hologram;
+
+import dev.philippedr.islandvalue.cache.BoundedCache;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches resolved hologram anchor positions per (island, world).
+ *
+ * Resolving an island home goes through SS2 reflection and a scan over every home dimension,
+ * so anchors are kept as immutable primitive coordinates until SS2 reports a home change or disband.
+ * Islands without a home in a world are re-checked after a short while, since homes can be added without
+ * an event (e.g. a dimension unlock or an admin/API set). Bounded by weight with idle expiry.
+ */
+final class HologramAnchorCache implements Listener {
+
+    private static final long NO_HOME_RETRY_MS = 30_000L;
+
+    private final SuperiorSkyblock2Connector connector;
+    private final double yOffset;
+
+    // Island -> world -> resolved anchor.
+    private final BoundedCache<UUID, Map<UUID, Resolved>> anchorsByIsland;
+
+    HologramAnchorCache(SuperiorSkyblock2Connector connector, double yOffset, long maxWeightBytes, long expireAfterAccessMs) {
+        this.connector = connector;
+        this.yOffset = yOffset;
+        this.anchorsByIsland = new BoundedCache<>(maxWeightBytes, expireAfterAccessMs, HologramAnchorCache::estimatedBytes);
+    }
+
+    void register(Plugin plugin) {
+        connector.registerEventHook(plugin, this, "IslandSetHomeEvent", EventPriority.MONITOR, event ->
+                invalidate(connector.getIslandUuid(connector.getEventIsland(event))));
+        connector.registerEventHook(plugin, this, "IslandDisbandEvent", EventPriority.MONITOR, event ->
+                invalidate(connector.getIslandUuid(connector.getEventIsland(event))));
+    }
+
+    /**
+     * Returns the hologram anchor for the island in the given world, or null if the island has no home there.
+     */
+    Anchor resolve(Object island, UUID islandId, World world) {
+        if (islandId == null || world == null) return null;
+
+        UUID worldId = world.getUID();
+        long nowMs = System.currentTimeMillis();
+        Map<UUID, Resolved> byWorld = anchorsByIsland.get(islandId);
+        if (byWorld != null) {
+            Resolved cached = byWorld.get(worldId);
+            if (cached != null && (cached.anchor() != null || nowMs - cached.resolvedAtMs() < NO_HOME_RETRY_MS)) {
+                return cached.anchor();
+            }
+        }
+
+        Location home = connector.getIslandHomeForWorld(island, world);
+        Anchor anchor = home == null ? null : new Anchor(worldId, home.getX(), home.getY() + yOffset, home.getZ());
+
+        if (byWorld == null) byWorld = new ConcurrentHashMap<>();
+        byWorld.put(worldId, new Resolved(anchor, nowMs));
+        // Re-put to re-weigh with the added world.
+        anchorsByIsland.put(islandId, byWorld);
+        return anchor;
+    }
+
+    void invalidate(UUID islandId) {
+        if (islandId != null) anchorsByIsland.remove(islandId);
+    }
+
+    void cleanUp() {
+        anchorsByIsland.cleanUp();
+    }
+
+    void clear() {
+        anchorsByIsland.clear();
+    }
+
+    /**
+     * Rough heap size: the per-island map plus an entry and anchor per world.
+     */
+    private static long estimatedBytes(Map<UUID, Resolved> byWorld) {
+        return 160L + byWorld.size() * 144L;
+    }
+
+    /**
+     * An anchor as resolved at a point in time; null when the island had no home in that world.
+     */
+    private record Resolved(Anchor anchor, long resolvedAtMs) {
+    }
+
+    record Anchor(UUID worldId, double x, double y, double z) {
+
+        Location toLocation(World world) {
+            return new Location(world, x, y, z);
+        }
+
+        int chunkX() {
+            return (int) Math.floor(x) >> 4;
+        }
+
+        int chunkZ() {
+            return (int) Math.floor(z) >> 4;
+        }
+
+        long chunkKey() {
+            return Chunk.getChunkKey(chunkX(), chunkZ());
+        }
+
+        double distanceSquared(Anchor other) {
+            double dx = x - other.x;
+            double dy = y - other.y;
+            double dz = z - other.z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -1,34 +1,46 @@
 package dev.philippedr.islandvalue.hologram;
 
 import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.api.IslandValue;
+import dev.philippedr.islandvalue.cache.BoundedCache;
+import dev.philippedr.islandvalue.cache.IslandPrefetcher;
+import dev.philippedr.islandvalue.cache.IslandValueCache;
+import dev.philippedr.islandvalue.diagnostics.DisplayEvent;
+import dev.philippedr.islandvalue.diagnostics.ViewerTickEvent;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.superiorskyblock.IslandWorthEvents;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
 import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.entity.Display;
-import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
-import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.plugin.EventExecutor;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -39,69 +51,188 @@ import java.util.concurrent.ConcurrentHashMap;
  * Per-player island value hologram shown at island home + 3 blocks.
  *
  * Implementation notes:
- * - Uses a per-player TextDisplay entity hidden from all other players.
+ * - Uses per-player TextDisplay entities hidden from all other players, reused through a per-world pool.
+ * - The segmented layout (default) stacks one display per line and each display diffs its own section's line
+ *   (matched by section key, not position), so a worth change resends one short line instead of the whole
+ *   hologram. The single layout uses one display for all.
  * - Uses billboard mode to always face the viewer.
- * - Updates are cached per-island and refreshed only for islands with active viewers.
+ * - Text is rendered in each viewer's language and cached per (island, locale) against the shared island value,
+ *   so an island costs one render per locale among its viewers (bounded, idle entries expire).
+ * - Values are refreshed only for islands with active viewers. An island reached before its value is cached is
+ *   prefetched on the next tick and its holograms re-texted as soon as it's ready.
+ * - Displays follow their anchor chunk: spawned only into loaded chunks, dropped on unload, re-created on load.
+ * - Viewers are re-assigned when something can change their island: SS2 island enter/leave, teleports, world
+ *   changes, joins and respawns, plus home moves and disbands for the island's viewers. Each is queued and
+ *   handled on the next tick, after the move has happened. A slow sweep over all players catches anything
+ *   missed; it runs every second instead when the installed SS2 has no enter/leave events.
  */
 public final class HolographicValue implements Listener {
 
     private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
 
+    private static final int HOLOGRAM_TOP_BLOCKS = 5;
+    // Vertical distance between stacked line displays (one text line at default scale, plus a little spacing).
+    private static final double SEGMENT_SPACING = 0.27;
+    private static final long RECONCILE_PERIOD_MS = 30_000L;
+
     private final PhilippeDrIslandValuePlugin plugin;
     private final SuperiorSkyblock2Connector connector;
+    private final IslandWorthEvents worthEvents;
+    private final IslandValueCache valueCache;
+    private final Messages messages;
+    private final IslandPrefetcher prefetcher;
+    private final boolean segmented;
 
     private final Map<UUID, HoloState> holoByViewer = new ConcurrentHashMap<>();
-    private final Map<UUID, IslandCache> cacheByIsland = new ConcurrentHashMap<>();
+    private final BoundedCache<RenderKey, RenderedText> renderCache;
+    private final Map<Locale, List<Row>> loadingRowsByLocale = new ConcurrentHashMap<>();
     private final Set<UUID> dirtyIslands = ConcurrentHashMap.newKeySet();
-
+    private final HologramAnchorCache anchorCache;
+    private final DisplayPool displayPool;
+    private final ChunkAnchorIndex chunkIndex = new ChunkAnchorIndex();
+    // Players whose island may have changed since the last tick (main thread only).
+    private final Set<UUID> pendingViewers = new LinkedHashSet<>();
+
+    private long lastReconcileMs;
+    private BukkitTask pendingTask;
     private BukkitTask viewerTask;
     private BukkitTask refreshTask;
-
-    public HolographicValue(PhilippeDrIslandValuePlugin plugin, SuperiorSkyblock2Connector connector) {
+    private BukkitTask maintenanceTask;
+
+    public HolographicValue(
+            PhilippeDrIslandValuePlugin plugin,
+            SuperiorSkyblock2Connector connector,
+            IslandWorthEvents worthEvents,
+            IslandValueCache valueCache,
+            Messages messages,
+            IslandPrefetcher prefetcher
+    ) {
         this.plugin = plugin;
         this.connector = connector;
+        this.worthEvents = worthEvents;
+        this.valueCache = valueCache;
+        this.messages = messages;
+        this.prefetcher = prefetcher;
+        this.segmented = !"single".equalsIgnoreCase(plugin.getConfig().getString("hologram.layout", "segmented"));
+        this.renderCache = new BoundedCache<>(
+                plugin.getConfig().getLong("cache.memory.hologram-max-kb", 4096L) * 1024L,
+                plugin.getConfig().getLong("cache.memory.idle-expiry-seconds", 300L) * 1000L,
+                RenderedText::estimatedBytes
+        );
+        this.anchorCache = new HologramAnchorCache(
+                connector,
+                3.0,
+                plugin.getConfig().getLong("cache.memory.anchors-max-kb", 1024L) * 1024L,
+                plugin.getConfig().getLong("cache.memory.idle-expiry-seconds", 300L) * 1000L
+        );
+        // A segmented hologram parks up to one display per line.
+        this.displayPool = new DisplayPool(plugin, segmented ? 64 : 16, 60_000L);
     }
 
     public void start() {
         Bukkit.getPluginManager().registerEvents(this, plugin);
-        registerSuperiorWorthHook();
-
-        // Keep holograms created/removed as players move around.
-        this.viewerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickViewers, 20L, 20L);
+        anchorCache.register(plugin);
+        registerSuperiorHooks();
+        prefetcher.setWarmListener(this::onIslandWarmed);
+
+        // Place/move/remove holograms for players queued by border, teleport and world events.
+        this.pendingTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushPendingViewers, 1L, 1L);
+        // Safety net for anything the events miss.
+        this.viewerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::reconcileViewers, 20L, 20L);
         // Refresh text for islands with active viewers (rate-limited and cached).
         this.refreshTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshActiveIslands, 40L, 40L);
+        // Trim idle pooled displays and expire cached text of islands nobody is looking at.
+        this.maintenanceTask = Bukkit.getScheduler().runTaskTimer(plugin, this::maintenance, 600L, 600L);
     }
 
     public void stop() {
+        if (pendingTask != null) pendingTask.cancel();
         if (viewerTask != null) viewerTask.cancel();
         if (refreshTask != null) refreshTask.cancel();
+        if (maintenanceTask != null) maintenanceTask.cancel();
 
         for (HoloState state : holoByViewer.values()) {
             destroy(state);
         }
         holoByViewer.clear();
-        cacheByIsland.clear();
+        pendingViewers.clear();
+        chunkIndex.clear();
+        displayPool.clear();
+        renderCache.clear();
+        loadingRowsByLocale.clear();
         dirtyIslands.clear();
+        anchorCache.clear();
     }
 
     @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        UUID viewerId = event.getPlayer().getUniqueId();
+        pendingViewers.remove(viewerId);
+        removeViewer(viewerId);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onJoin(PlayerJoinEvent event) {
-        // Ensure already-existing holograms stay private.
-        Player joined = event.getPlayer();
-        for (Map.Entry<UUID, HoloState> e : holoByViewer.entrySet()) {
-            HoloState state = e.getValue();
-            if (state == null || state.display == null) continue;
-            if (Objects.equals(joined.getUniqueId(), e.getKey())) continue;
-            joined.hideEntity(plugin, state.display);
-        }
+        markPending(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        markPending(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        markPending(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        markPending(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
-    public void onQuit(PlayerQuitEvent event) {
-        removeViewer(event.getPlayer().getUniqueId());
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        HoloState state = holoByViewer.get(event.getPlayer().getUniqueId());
+        if (state == null) return;
+
+        Locale locale = messages.resolve(event.locale());
+        if (locale.equals(state.locale)) return;
+
+        // Re-texted in the new language on the next refresh cycle.
+        state.locale = locale;
+        state.forgetSent();
     }
 
-    private void tickViewers() {
+    private void markPending(UUID viewerId) {
+        if (viewerId != null) pendingViewers.add(viewerId);
+    }
+
+    private void markIslandViewers(UUID islandId) {
+        if (islandId == null) return;
+        for (HoloState state : holoByViewer.values()) {
+            if (islandId.equals(state.islandId)) pendingViewers.add(state.viewerId);
+        }
+    }
+
+    private void flushPendingViewers() {
+        if (pendingViewers.isEmpty() || !connector.isAvailable()) return;
+
+        ViewerTickEvent event = new ViewerTickEvent();
+        event.begin();
+
+        List<UUID> viewerIds = new ArrayList<>(pendingViewers);
+        pendingViewers.clear();
+        for (UUID viewerId : viewerIds) {
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null) updateViewer(viewer);
+            else removeViewer(viewerId);
+        }
+
+        commitViewerTick(event, viewerIds.size(), false);
+    }
+
+    private void reconcileViewers() {
         if (!connector.isAvailable()) {
             // SuperiorSkyblock2 not present; remove any existing holograms.
             for (UUID viewerId : new ArrayList<>(holoByViewer.keySet())) {
@@ -110,9 +241,30 @@ public final class HolographicValue implements Listener {
             return;
         }
 
+        long now = System.currentTimeMillis();
+        boolean borderEvents = connector.supportsEvent("IslandEnterEvent") && connector.supportsEvent("IslandLeaveEvent");
+        if (borderEvents && now - lastReconcileMs < RECONCILE_PERIOD_MS) return;
+        lastReconcileMs = now;
+
+        ViewerTickEvent event = new ViewerTickEvent();
+        event.begin();
+
+        int players = 0;
         for (Player viewer : Bukkit.getOnlinePlayers()) {
             updateViewer(viewer);
+            players++;
         }
+        pendingViewers.clear();
+
+        commitViewerTick(event, players, true);
+    }
+
+    private void commitViewerTick(ViewerTickEvent event, int players, boolean sweep) {
+        if (!event.shouldCommit()) return;
+        event.players = players;
+        event.holograms = holoByViewer.size();
+        event.sweep = sweep;
+        event.commit();
     }
 
     private void updateViewer(Player viewer) {
@@ -128,70 +280,267 @@ public final class HolographicValue implements Listener {
             return;
         }
 
-        Location home = connector.getIslandHomeForWorld(island, viewer.getWorld());
-        if (home == null || home.getWorld() == null) {
+        World world = viewer.getWorld();
+        HologramAnchorCache.Anchor anchor = anchorCache.resolve(island, islandId, world);
+        if (anchor == null) {
             removeViewer(viewer.getUniqueId());
             return;
         }
 
-        Location holoLoc = home.clone().add(0.0, 3.0, 0.0);
-        HoloState existing = holoByViewer.get(viewer.getUniqueId());
-
-        if (existing == null || existing.display == null || existing.display.isDead()) {
-            TextDisplay display = spawnPrivateDisplay(viewer, holoLoc);
-            if (display == null) return;
+        UUID viewerId = viewer.getUniqueId();
+        HoloState state = holoByViewer.get(viewerId);
 
-            HoloState state = new HoloState(viewer.getUniqueId(), islandId, holoLoc, display);
-            holoByViewer.put(viewer.getUniqueId(), state);
+        if (state == null) {
+            state = new HoloState(viewerId, islandId, anchor, messages.resolve(viewer.locale()));
+            holoByViewer.put(viewerId, state);
+            chunkIndex.put(viewerId, anchor.worldId(), anchor.chunkKey());
             dirtyIslands.add(islandId);
+            noteArrival(islandId);
+            requestDisplay(viewer, state, world);
             return;
         }
 
-        // Island changed.
-        if (!Objects.equals(existing.islandId, islandId)) {
-            destroy(existing);
-            TextDisplay display = spawnPrivateDisplay(viewer, holoLoc);
-            if (display == null) return;
+        boolean islandChanged = !Objects.equals(state.islandId, islandId);
+
+        // Island or home changed (anchors are cached, so an unchanged home is the same instance).
+        if (islandChanged || state.anchor != anchor) {
+            HologramAnchorCache.Anchor previous = state.anchor;
+            state.islandId = islandId;
+            state.anchor = anchor;
+            state.chunkRequested = false;
+            chunkIndex.put(viewerId, anchor.worldId(), anchor.chunkKey());
+            if (islandChanged) {
+                dirtyIslands.add(islandId);
+                noteArrival(islandId);
+            }
 
-            existing.islandId = islandId;
-            existing.baseLocation = holoLoc;
-            existing.display = display;
-            holoByViewer.put(viewer.getUniqueId(), existing);
-            dirtyIslands.add(islandId);
+            // Move the displays along when they're in this world and the target chunk is loaded.
+            if (state.hasDisplays()
+                    && state.displays.get(0).getWorld().getUID().equals(world.getUID())
+                    && world.isChunkLoaded(anchor.chunkX(), anchor.chunkZ())) {
+                if (previous == null || islandChanged
+                        || !previous.worldId().equals(anchor.worldId())
+                        || previous.distanceSquared(anchor) > 0.25) {
+                    restack(state, world);
+                }
+                if (islandChanged) showRows(viewer, state, world, loadingRows(state.locale));
+                return;
+            }
+
+            destroy(state);
+            requestDisplay(viewer, state, world);
             return;
         }
 
-        // Home location moved.
-        if (existing.baseLocation == null || existing.baseLocation.distanceSquared(holoLoc) > 0.25) {
-            existing.baseLocation = holoLoc;
-            existing.display.teleport(holoLoc);
+        if (!state.hasDisplays()) {
+            destroy(state);
+            requestDisplay(viewer, state, world);
         }
     }
 
-    private TextDisplay spawnPrivateDisplay(Player viewer, Location holoLoc) {
-        World world = holoLoc.getWorld();
-        if (world == null) return null;
+    private void noteArrival(UUID islandId) {
+        boolean warm = valueCache.peek(islandId) != null;
+        prefetcher.recordArrival(islandId, warm);
+        if (!warm) prefetcher.requestNow(islandId);
+    }
+
+    /**
+     * Re-texts the island's holograms once a prefetch computed its value, instead of waiting for the refresh cycle.
+     */
+    private void onIslandWarmed(UUID islandId) {
+        IslandValue value = valueCache.peek(islandId);
+        if (value == null) return;
+        dirtyIslands.remove(islandId);
 
-        TextDisplay display = (TextDisplay) world.spawnEntity(holoLoc, EntityType.TEXT_DISPLAY);
+        for (HoloState state : holoByViewer.values()) {
+            if (!islandId.equals(state.islandId) || !state.hasDisplays()) continue;
+            Player viewer = Bukkit.getPlayer(state.viewerId);
+            if (viewer == null) continue;
+            showRows(viewer, state, state.displays.get(0).getWorld(), renderFor(islandId, state.locale, value));
+        }
+    }
 
-        display.setBillboard(Display.Billboard.CENTER);
-        display.setSeeThrough(true);
-        display.setShadowed(true);
-        display.setPersistent(false);
-        display.setDefaultBackground(false);
-        display.setLineWidth(240);
+    /**
+     * Spawns the viewer's displays if the anchor chunk is loaded. Otherwise loads the chunk
+     * asynchronously once and spawns when it's ready, never forcing a synchronous chunk load.
+     */
+    private void requestDisplay(Player viewer, HoloState state, World world) {
+        HologramAnchorCache.Anchor anchor = state.anchor;
+        if (world.isChunkLoaded(anchor.chunkX(), anchor.chunkZ())) {
+            // Re-create from cached state when we have it.
+            IslandValue value = valueCache.peek(state.islandId);
+            List<Row> rows = value != null ? renderFor(state.islandId, state.locale, value) : loadingRows(state.locale);
+            showRows(viewer, state, world, rows);
+            // Spawned: a later unload or invalid display may need a fresh async load.
+            if (state.hasDisplays()) state.chunkRequested = false;
+            return;
+        }
 
-        display.text(LEGACY.deserialize("\u00a7b\u00a7lISLAND VALUE\n\u00a77Loading..."));
+        // Already waiting for this anchor's chunk (or it was unloaded under us): wait for ChunkLoadEvent.
+        if (state.chunkRequested) return;
+        state.chunkRequested = true;
+
+        UUID viewerId = state.viewerId;
+        world.getChunkAtAsync(anchor.chunkX(), anchor.chunkZ()).thenAccept(chunk -> {
+            // Paper completes chunk futures on the main thread.
+            HoloState current = holoByViewer.get(viewerId);
+            if (current == null || current.anchor != anchor || !current.displays.isEmpty()) return;
+            Player online = Bukkit.getPlayer(viewerId);
+            if (online == null) return;
+            requestDisplay(online, current, chunk.getWorld());
+        });
+    }
 
-        for (Player other : Bukkit.getOnlinePlayers()) {
-            if (Objects.equals(other.getUniqueId(), viewer.getUniqueId())) {
-                other.showEntity(plugin, display);
-            } else {
-                other.hideEntity(plugin, display);
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        for (UUID viewerId : chunkIndex.viewersIn(chunk.getWorld().getUID(), chunk.getChunkKey())) {
+            HoloState state = holoByViewer.get(viewerId);
+            if (state == null || state.displays.isEmpty()) continue;
+
+            // Non-persistent displays would be discarded with the chunk; drop them and wait for a reload.
+            DisplayEvent displayEvent = new DisplayEvent();
+            displayEvent.begin();
+            for (TextDisplay display : state.displays) {
+                try {
+                    display.remove();
+                } catch (Throwable ignored) {
+                }
             }
+            if (displayEvent.shouldCommit()) {
+                displayEvent.action = DisplayEvent.REMOVE;
+                displayEvent.world = chunk.getWorld().getName();
+                displayEvent.viewerId = viewerId.toString();
+                displayEvent.commit();
+            }
+            state.displays.clear();
+            state.rowKeys.clear();
+            state.sentRows.clear();
+            state.chunkRequested = true;
+        }
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        for (UUID viewerId : chunkIndex.viewersIn(chunk.getWorld().getUID(), chunk.getChunkKey())) {
+            HoloState state = holoByViewer.get(viewerId);
+            if (state == null || !state.displays.isEmpty()) continue;
+
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer == null || !viewer.getWorld().getUID().equals(state.anchor.worldId())) continue;
+            requestDisplay(viewer, state, chunk.getWorld());
+        }
+    }
+
+    /**
+     * Shows one row per display, stacked upward from the anchor. Rows are matched to displays by section key, so
+     * a row appearing or disappearing (e.g. the rank) doesn't re-text the rows after it: a display is only re-texted
+     * when its row differs from what it last showed, and only moved when its position in the stack changed.
+     * Displays of rows that went away are reused for new rows before any are acquired or parked.
+     */
+    private void showRows(Player viewer, HoloState state, World world, List<Row> rows) {
+        int count = rows.size();
+        int oldCount = state.displays.size();
+
+        Map<String, Integer> oldIndexByKey = new HashMap<>(oldCount * 2);
+        for (int i = 0; i < oldCount; i++) oldIndexByKey.put(state.rowKeys.get(i), i);
+        boolean[] taken = new boolean[oldCount];
+        int[] matched = new int[count];
+        for (int i = 0; i < count; i++) {
+            Integer old = oldIndexByKey.get(rows.get(i).key());
+            matched[i] = old == null ? -1 : old;
+            if (old != null) taken[old] = true;
+        }
+
+        List<TextDisplay> displays = new ArrayList<>(count);
+        List<String> rowKeys = new ArrayList<>(count);
+        List<Component> sentRows = new ArrayList<>(count);
+        int spare = 0;
+        for (int i = 0; i < count; i++) {
+            Row row = rows.get(i);
+            int old = matched[i];
+            if (old < 0) {
+                // Reuse a display whose row went away.
+                while (spare < oldCount && taken[spare]) spare++;
+                if (spare < oldCount) {
+                    taken[spare] = true;
+                    old = spare;
+                }
+            }
+
+            if (old < 0) {
+                TextDisplay display = displayPool.acquire(viewer, rowLocation(state.anchor, world, i, count), row.text());
+                if (display == null) continue;
+                displays.add(display);
+                rowKeys.add(row.key());
+                sentRows.add(row.text());
+                continue;
+            }
+
+            TextDisplay display = state.displays.get(old);
+            if (old != i || oldCount != count) display.teleport(rowLocation(state.anchor, world, i, count));
+            Component sent = state.sentRows.get(old);
+            if (!Objects.equals(sent, row.text())) display.text(row.text());
+            displays.add(display);
+            rowKeys.add(row.key());
+            sentRows.add(row.text());
+        }
+
+        for (int i = 0; i < oldCount; i++) {
+            if (!taken[i]) release(state.viewerId, state.displays.get(i));
         }
 
-        return display;
+        state.displays.clear();
+        state.displays.addAll(displays);
+        state.rowKeys.clear();
+        state.rowKeys.addAll(rowKeys);
+        state.sentRows.clear();
+        state.sentRows.addAll(sentRows);
+    }
+
+    private void restack(HoloState state, World world) {
+        List<TextDisplay> displays = state.displays;
+        for (int i = 0; i < displays.size(); i++) {
+            displays.get(i).teleport(rowLocation(state.anchor, world, i, displays.size()));
+        }
+    }
+
+    private static Location rowLocation(HologramAnchorCache.Anchor anchor, World world, int index, int count) {
+        // Text grows upward from a display's location, so the last row sits on the anchor.
+        return anchor.toLocation(world).add(0, (count - 1 - index) * SEGMENT_SPACING, 0);
+    }
+
+    private List<Row> loadingRows(Locale locale) {
+        return loadingRowsByLocale.computeIfAbsent(locale, l -> {
+            Map<String, String> lines = new LinkedHashMap<>();
+            lines.put("title", messages.get(l, "hologram.title"));
+            lines.put("loading", messages.get(l, "hologram.loading"));
+            return toRows(lines);
+        });
+    }
+
+    /**
+     * Turns section key -> line pairs into rows: one per line when segmented, otherwise a single row of all lines.
+     */
+    private List<Row> toRows(Map<String, String> lines) {
+        if (!segmented) return List.of(new Row("all", LEGACY.deserialize(String.join("\n", lines.values()) + "\n")));
+
+        List<Row> rows = new ArrayList<>(lines.size());
+        for (Map.Entry<String, String> line : lines.entrySet()) {
+            rows.add(new Row(line.getKey(), LEGACY.deserialize(line.getValue())));
+        }
+        return List.copyOf(rows);
+    }
+
+    public BoundedCache.Stats cacheStats() {
+        return renderCache.stats();
+    }
+
+    private void maintenance() {
+        displayPool.cleanup();
+        renderCache.cleanUp();
+        anchorCache.cleanUp();
     }
 
     private void refreshActiveIslands() {
@@ -200,7 +549,7 @@ public final class HolographicValue implements Listener {
         // Determine islands that currently have viewers.
         Map<UUID, List<HoloState>> viewersByIsland = new HashMap<>();
         for (HoloState state : holoByViewer.values()) {
-            if (state == null || state.display == null || state.display.isDead()) continue;
+            if (state == null || !state.hasDisplays()) continue;
             viewersByIsland.computeIfAbsent(state.islandId, __ -> new ArrayList<>()).add(state);
         }
 
@@ -209,255 +558,174 @@ public final class HolographicValue implements Listener {
         for (Map.Entry<UUID, List<HoloState>> entry : viewersByIsland.entrySet()) {
             UUID islandId = entry.getKey();
 
-            IslandCache cache = cacheByIsland.get(islandId);
-            boolean needsRefresh = cache == null || dirtyIslands.remove(islandId) || (nowMs - cache.lastUpdatedMs) > 10_000;
+            // The value is locale-independent and shared; only the rendered text is per locale.
+            IslandValue value = valueCache.peek(islandId);
+            boolean needsRefresh = value == null || dirtyIslands.remove(islandId) || (nowMs - value.updatedAtMs()) > 10_000;
             if (needsRefresh) {
-                cache = buildCacheForIsland(islandId, nowMs);
-                if (cache != null) {
-                    cacheByIsland.put(islandId, cache);
-                }
+                value = valueCache.refresh(islandId);
             }
 
-            if (cache == null) continue;
+            if (value == null) continue;
 
-            Component text = cache.renderedText;
             for (HoloState viewerState : entry.getValue()) {
-                if (viewerState.display == null || viewerState.display.isDead()) continue;
-                if (!Objects.equals(viewerState.lastText, text)) {
-                    viewerState.display.text(text);
-                    viewerState.lastText = text;
-                }
+                Player viewer = Bukkit.getPlayer(viewerState.viewerId);
+                if (viewer == null || !viewerState.hasDisplays()) continue;
+                List<Row> rows = renderFor(islandId, viewerState.locale, value);
+                showRows(viewer, viewerState, viewerState.displays.get(0).getWorld(), rows);
             }
         }
     }
 
-    private IslandCache buildCacheForIsland(UUID islandId, long nowMs) {
-        Object island = connector.getIslandByUuid(islandId);
-        if (island == null) return null;
-
-        String ownerName = connector.getIslandOwnerName(island);
-        if (ownerName == null || ownerName.isBlank()) ownerName = "Unknown";
-
-        Integer worthRank = connector.getIslandWorthRank(island);
+    /**
+     * Returns the island's hologram rows in the given locale, re-rendering only when the value's content changed.
+     */
+    private List<Row> renderFor(UUID islandId, Locale locale, IslandValue value) {
+        RenderKey key = new RenderKey(islandId, locale);
+        RenderedText cached = renderCache.get(key);
+        if (cached != null && cached.source.sameContent(value)) return cached.rows;
+
+        RenderedText rendered = render(value, locale);
+        renderCache.put(key, rendered);
+        return rendered.rows;
+    }
 
-        BigDecimal worth = connector.getIslandWorth(island);
+    private RenderedText render(IslandValue value, Locale locale) {
+        String ownerName = value.ownerName();
+        if (ownerName == null || ownerName.isBlank()) ownerName = messages.get(locale, "hologram.owner-unknown");
 
-        List<BlockLine> top = computeTopWorthBlocks(island, 5);
+        Integer worthRank = value.rank();
+        BigDecimal worth = value.worth();
+        List<BlockWorthLine> top = value.topBlocks();
+        if (top.size() > HOLOGRAM_TOP_BLOCKS) top = top.subList(0, HOLOGRAM_TOP_BLOCKS);
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("\u00a7b\u00a7lISLAND VALUE\n");
+        // Keyed by section, so the displays can be diffed by what they show rather than by position.
+        Map<String, String> lines = new LinkedHashMap<>();
+        lines.put("title", messages.get(locale, "hologram.title"));
         if (worthRank != null) {
             if (worthRank == 1) {
-                sb.append("\u00a76Rank: \u00a7e#1\u00a76 (Top)\n");
+                lines.put("rank", messages.get(locale, "hologram.rank-top"));
             } else {
-                sb.append("\u00a76Rank: \u00a7e#").append(worthRank).append("\n");
+                lines.put("rank", messages.get(locale, "hologram.rank", String.valueOf(worthRank)));
             }
         }
-        sb.append("\u00a77Owner: \u00a7f").append(ownerName).append("\n");
+        lines.put("owner", messages.get(locale, "hologram.owner", ownerName));
         if (worth != null) {
-            sb.append("\u00a77Worth: \u00a7a").append(SuperiorSkyblock2IslandValueCheck.formatDecimal(worth)).append("\n");
+            lines.put("worth", messages.get(locale, "hologram.worth", SuperiorSkyblock2IslandValueCheck.formatDecimal(worth)));
         } else {
-            sb.append("\u00a77Worth: \u00a7cN/A\n");
+            lines.put("worth", messages.get(locale, "hologram.worth-unavailable"));
         }
 
         if (!top.isEmpty()) {
-            sb.append("\u00a77Top blocks:\n");
+            lines.put("header", messages.get(locale, "hologram.top-blocks"));
             int idx = 1;
-            for (BlockLine line : top) {
-                boolean isTop = idx == 1;
-                sb.append("\u00a78  ").append(idx).append(") ");
-                sb.append(isTop ? "\u00a7e\u2605 " : "");
-                sb.append("\u00a7f").append(line.key);
-                sb.append("\u00a77 x\u00a7f").append(line.amount);
-                sb.append("\u00a78  (\u00a7f").append(SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthEach)).append("\u00a78)");
-                sb.append("\u00a77 = \u00a7a").append(SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthTotal));
-                sb.append("\n");
+            for (BlockWorthLine line : top) {
+                lines.put("block-" + idx, messages.get(locale, idx == 1 ? "hologram.top-block-first" : "hologram.top-block",
+                        String.valueOf(idx),
+                        line.key(),
+                        String.valueOf(line.amount()),
+                        SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthEach()),
+                        SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthTotal())));
                 idx++;
             }
         } else {
-            sb.append("\u00a78No block breakdown available\n");
-        }
-
-        return new IslandCache(nowMs, LEGACY.deserialize(sb.toString()));
-    }
-
-    private List<BlockLine> computeTopWorthBlocks(Object island, int limit) {
-        Map<Object, BigInteger> counts = connector.getIslandBlockCounts(island);
-        if (counts.isEmpty()) return List.of();
-
-        BigDecimal worthCap = connector.getIslandWorth(island);
-        if (worthCap == null || worthCap.signum() <= 0) return List.of();
-
-        // Hide derived global aggregation keys when per-subkey entries exist.
-        Set<String> globalsWithSubKeys = new HashSet<>();
-        for (Map.Entry<Object, BigInteger> entry : counts.entrySet()) {
-            Object keyObj = entry.getKey();
-            BigInteger amount = entry.getValue();
-            if (keyObj == null || amount == null || amount.signum() <= 0) continue;
-            String global = connector.getKeyGlobalPart(keyObj);
-            String sub = connector.getKeySubPart(keyObj);
-            if (global == null || global.isEmpty()) continue;
-            if (sub != null && !sub.isEmpty()) globalsWithSubKeys.add(global);
-        }
-
-        List<BlockLine> out = new ArrayList<>();
-        for (Map.Entry<Object, BigInteger> entry : counts.entrySet()) {
-            Object keyObj = entry.getKey();
-            BigInteger amount = entry.getValue();
-            if (keyObj == null || amount == null || amount.signum() <= 0) continue;
-
-            String global = connector.getKeyGlobalPart(keyObj);
-            String sub = connector.getKeySubPart(keyObj);
-            if (global != null && !global.isEmpty() && (sub == null || sub.isEmpty()) && globalsWithSubKeys.contains(global)) {
-                continue;
-            }
-
-            BigDecimal worthEach = connector.getBlockWorth(keyObj);
-            if (worthEach == null || worthEach.signum() <= 0) continue;
-
-            BigDecimal amountDec;
-            try {
-                amountDec = new BigDecimal(amount);
-            } catch (NumberFormatException ex) {
-                continue;
-            }
-
-            BigDecimal worthTotal = worthEach.multiply(amountDec);
-            if (worthTotal.signum() <= 0) continue;
-
-            out.add(new BlockLine(connector.formatKey(keyObj), amount, worthEach, worthTotal));
-        }
-
-        out.sort(
-            Comparator.comparing((BlockLine b) -> b.worthEach).reversed()
-                .thenComparing((BlockLine b) -> b.worthTotal, Comparator.reverseOrder())
-        );
-
-        out = clampToWorthCap(out, worthCap);
-        if (limit > 0 && out.size() > limit) return out.subList(0, limit);
-        return out;
-    }
-
-    private static List<BlockLine> clampToWorthCap(List<BlockLine> sortedLines, BigDecimal worthCap) {
-        if (sortedLines == null || sortedLines.isEmpty()) return List.of();
-        if (worthCap == null || worthCap.signum() <= 0) return List.of();
-
-        BigDecimal remaining = worthCap;
-        List<BlockLine> out = new ArrayList<>();
-
-        for (BlockLine line : sortedLines) {
-            if (line == null) continue;
-            if (remaining.signum() <= 0) break;
-
-            if (line.worthEach == null || line.worthTotal == null || line.amount == null) continue;
-            if (line.worthEach.signum() <= 0 || line.worthTotal.signum() <= 0 || line.amount.signum() <= 0) continue;
-
-            if (line.worthTotal.compareTo(remaining) <= 0) {
-                out.add(line);
-                remaining = remaining.subtract(line.worthTotal);
-                continue;
-            }
-
-            BigDecimal amountDec = remaining.divide(line.worthEach, 0, RoundingMode.DOWN);
-            BigInteger amountToShow;
-            try {
-                amountToShow = amountDec.toBigIntegerExact();
-            } catch (ArithmeticException ex) {
-                amountToShow = amountDec.toBigInteger();
-            }
-
-            if (amountToShow.signum() <= 0) {
-                continue;
-            }
-            if (amountToShow.compareTo(line.amount) > 0) {
-                amountToShow = line.amount;
-            }
-
-            BigDecimal worthTotalToShow = line.worthEach.multiply(new BigDecimal(amountToShow));
-            if (worthTotalToShow.signum() <= 0) continue;
-            if (worthTotalToShow.compareTo(remaining) > 0) continue;
-
-            out.add(new BlockLine(line.key, amountToShow, line.worthEach, worthTotalToShow));
-            remaining = remaining.subtract(worthTotalToShow);
+            lines.put("header", messages.get(locale, "hologram.no-breakdown"));
         }
 
-        return out;
+        int textLength = 0;
+        for (String line : lines.values()) textLength += line.length() + 1;
+        return new RenderedText(value, toRows(lines), textLength);
     }
 
     private void removeViewer(UUID viewerId) {
         HoloState state = holoByViewer.remove(viewerId);
+        chunkIndex.remove(viewerId);
         if (state != null) destroy(state);
     }
 
     private void destroy(HoloState state) {
-        try {
-            if (state.display != null && !state.display.isDead()) {
-                state.display.remove();
-            }
-        } catch (Throwable ignored) {
+        for (TextDisplay display : state.displays) {
+            release(state.viewerId, display);
         }
+        state.displays.clear();
+        state.rowKeys.clear();
+        state.sentRows.clear();
     }
 
-    private void registerSuperiorWorthHook() {
-        // Mark cache dirty on island worth recalculation.
+    private void release(UUID viewerId, TextDisplay display) {
         try {
-            Class<?> eventClass = Class.forName("com.bgsoftware.superiorskyblock.api.events.IslandWorthCalculatedEvent");
-
-            Bukkit.getPluginManager().registerEvent(
-                    eventClass.asSubclass(Event.class),
-                    this,
-                    EventPriority.MONITOR,
-                    new WorthEventExecutor(),
-                    plugin,
-                    true
-            );
+            displayPool.release(viewerId, display);
         } catch (Throwable ignored) {
-            // SuperiorSkyblock2 not installed or API changed.
         }
     }
 
-    private final class WorthEventExecutor implements EventExecutor {
-        @Override
-        public void execute(Listener listener, Event event) {
-            try {
-                // IslandEvent#getIsland
-                Object island = event.getClass().getMethod("getIsland").invoke(event);
-                UUID islandId = connector.getIslandUuid(island);
-                if (islandId != null) dirtyIslands.add(islandId);
-            } catch (Throwable ignored) {
-            }
-        }
+    private void registerSuperiorHooks() {
+        // Mark cache dirty on island worth recalculation.
+        worthEvents.subscribe(dirtyIslands::add);
+
+        // Border crossings fire before the player has moved; queued and re-checked next tick.
+        connector.registerEventHook(plugin, this, "IslandEnterEvent", EventPriority.MONITOR, event ->
+                markPending(connector.getEventPlayerUuid(event)));
+        connector.registerEventHook(plugin, this, "IslandLeaveEvent", EventPriority.MONITOR, event ->
+                markPending(connector.getEventPlayerUuid(event)));
+
+        // A moved home relocates the island's holograms; a disbanded island drops them.
+        connector.registerEventHook(plugin, this, "IslandSetHomeEvent", EventPriority.MONITOR, event ->
+                markIslandViewers(connector.getIslandUuid(connector.getEventIsland(event))));
+        connector.registerEventHook(plugin, this, "IslandDisbandEvent", EventPriority.MONITOR, event ->
+                markIslandViewers(connector.getIslandUuid(connector.getEventIsland(event))));
     }
 
     private static final class HoloState {
         final UUID viewerId;
         UUID islandId;
-        Location baseLocation;
-        TextDisplay display;
-        Component lastText;
-
-        HoloState(UUID viewerId, UUID islandId, Location baseLocation, TextDisplay display) {
+        HologramAnchorCache.Anchor anchor;
+        // One display per row, top row first, with the section key of its row and what it last showed
+        // (null when unknown).
+        final List<TextDisplay> displays = new ArrayList<>();
+        final List<String> rowKeys = new ArrayList<>();
+        final List<Component> sentRows = new ArrayList<>();
+        Locale locale;
+        boolean chunkRequested;
+
+        HoloState(UUID viewerId, UUID islandId, HologramAnchorCache.Anchor anchor, Locale locale) {
             this.viewerId = viewerId;
             this.islandId = islandId;
-            this.baseLocation = baseLocation;
-            this.display = display;
+            this.anchor = anchor;
+            this.locale = locale;
+        }
+
+        boolean hasDisplays() {
+            if (displays.isEmpty()) return false;
+            for (TextDisplay display : displays) {
+                if (!display.isValid()) return false;
+            }
+            return true;
         }
+
+        void forgetSent() {
+            Collections.fill(sentRows, null);
+        }
+    }
+
+    private record RenderKey(UUID islandId, Locale locale) {
     }
 
-    private record IslandCache(long lastUpdatedMs, Component renderedText) {
+    /**
+     * One hologram row and the section it shows (title, rank, owner, worth, header or block-n).
+     */
+    private record Row(String key, Component text) {
     }
 
-    private static final class BlockLine {
-        final String key;
-        final BigInteger amount;
-        final BigDecimal worthEach;
-        final BigDecimal worthTotal;
+    /**
+     * Island rows rendered for one locale, tagged with the value they were rendered from.
+     */
+    private record RenderedText(IslandValue source, List<Row> rows, int textLength) {
 
-        private BlockLine(String key, BigInteger amount, BigDecimal worthEach, BigDecimal worthTotal) {
-            this.key = key;
-            this.amount = amount;
-            this.worthEach = worthEach;
-            this.worthTotal = worthTotal;
+        /**
+         * Rough heap size: the record and row list plus component trees a few times the size of the legacy text.
+         */
+        long estimatedBytes() {
+            return 96L + rows.size() * 48L + textLength * 12L;
         }
     }
 }
@@ -0,0 +1,79 @@
+package dev.philippedr.islandvalue.i18n;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Localized player-facing text, loaded from the bundled {@code messages/messages*.properties}.
+ *
+ * Client locales are collapsed to their language (es_ES and es_MX both read the Spanish bundle), so the
+ * resolved locale is also a small, stable cache key. Unsupported languages fall back to English.
+ * Values use {@code &} colour codes and {@link MessageFormat} placeholders; arguments are passed as
+ * preformatted strings so numbers render the same in every language.
+ */
+public final class Messages {
+
+    public static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+    private static final String BUNDLE = "messages.messages";
+    private static final Set<String> SUPPORTED_LANGUAGES = Set.of("en", "es", "pt");
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(List.of("java.properties"));
+
+    private final ClassLoader classLoader;
+    private final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
+
+    public Messages(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Maps a client locale to the supported locale whose bundle serves it.
+     */
+    public Locale resolve(Locale requested) {
+        if (requested == null) return DEFAULT_LOCALE;
+        String language = requested.getLanguage();
+        return SUPPORTED_LANGUAGES.contains(language) ? Locale.of(language) : DEFAULT_LOCALE;
+    }
+
+    public Locale localeOf(CommandSender sender) {
+        return sender instanceof Player player ? resolve(player.locale()) : DEFAULT_LOCALE;
+    }
+
+    /**
+     * Returns the message for the sender's locale, with {@code &} codes translated.
+     */
+    public String get(CommandSender sender, String key, Object... args) {
+        return get(localeOf(sender), key, args);
+    }
+
+    /**
+     * Returns the message for an already resolved locale, with {@code &} codes translated.
+     * Missing keys render as the key itself so a broken bundle is visible rather than silent.
+     */
+    public String get(Locale locale, String key, Object... args) {
+        String pattern;
+        try {
+            pattern = bundle(locale).getString(key);
+        } catch (MissingResourceException e) {
+            return key;
+        }
+
+        String text = args.length == 0 ? pattern : new MessageFormat(pattern, locale).format(args);
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+
+    private ResourceBundle bundle(Locale locale) {
+        return bundles.computeIfAbsent(locale, l -> ResourceBundle.getBundle(BUNDLE, l, classLoader, CONTROL));
+    }
+}
@@ -0,0 +1,106 @@
+package dev.philippedr.islandvalue.placeholder;
+
+import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.api.IslandValue;
+import dev.philippedr.islandvalue.api.IslandValueService;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PlaceholderAPI placeholders for the player's island, answered from {@link IslandValueService}'s
+ * latest known values only (never computes on the placeholder request thread).
+ *
+ * %islandvalue_worth%, %islandvalue_worth_raw%, %islandvalue_worth_bonus%, %islandvalue_rank%,
+ * %islandvalue_owner%, %islandvalue_top_N_key|amount|each|total% (N = 1..10)
+ */
+public final class IslandValueExpansion extends PlaceholderExpansion {
+
+    private final PhilippeDrIslandValuePlugin plugin;
+    private final IslandValueService service;
+
+    public IslandValueExpansion(PhilippeDrIslandValuePlugin plugin, IslandValueService service) {
+        this.plugin = plugin;
+        this.service = service;
+    }
+
+    @Override
+    public @NotNull String getIdentifier() {
+        return "islandvalue";
+    }
+
+    @Override
+    public @NotNull String getAuthor() {
+        return "PhilippeDr";
+    }
+
+    @Override
+    public @NotNull String getVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    @Override
+    public boolean persist() {
+        return true;
+    }
+
+    @Override
+    public @Nullable String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (player == null) return "";
+
+        Optional<IslandValue> valueOpt = service.getLatestForPlayer(player.getUniqueId());
+        if (valueOpt.isEmpty()) return "";
+        IslandValue value = valueOpt.get();
+
+        switch (params) {
+            case "worth":
+                return format(value.worth() == null ? null : SuperiorSkyblock2IslandValueCheck.formatDecimal(value.worth()));
+            case "worth_raw":
+                return format(value.rawWorth() == null ? null : SuperiorSkyblock2IslandValueCheck.formatDecimal(value.rawWorth()));
+            case "worth_bonus":
+                return format(value.bonusWorth() == null ? null : SuperiorSkyblock2IslandValueCheck.formatDecimal(value.bonusWorth()));
+            case "rank":
+                return format(value.rank() == null ? null : value.rank().toString());
+            case "owner":
+                return format(value.ownerName());
+            default:
+                break;
+        }
+
+        if (params.startsWith("top_")) return topBlock(value.topBlocks(), params);
+        return null;
+    }
+
+    private static String topBlock(List<BlockWorthLine> topBlocks, String params) {
+        // top_<n>_<field>
+        int sep = params.indexOf('_', 4);
+        if (sep < 0) return null;
+
+        int index;
+        try {
+            index = Integer.parseInt(params.substring(4, sep)) - 1;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (index < 0 || index >= topBlocks.size()) return "";
+
+        BlockWorthLine line = topBlocks.get(index);
+        return switch (params.substring(sep + 1)) {
+            case "key" -> line.key();
+            case "amount" -> line.amount().toString();
+            case "each" -> SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthEach());
+            case "total" -> SuperiorSkyblock2IslandValueCheck.formatDecimal(line.worthTotal());
+            default -> null;
+        };
+    }
+
+    private static String format(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,304 @@
+package dev.philippedr.islandvalue.recalc;
+
+import dev.philippedr.islandvalue.PhilippeDrIslandValuePlugin;
+import dev.philippedr.islandvalue.i18n.Messages;
+import dev.philippedr.islandvalue.superiorskyblock.IslandGridWalker;
+import dev.philippedr.islandvalue.superiorskyblock.IslandWorthEvents;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2Connector;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Asks SS2 to recalculate the worth of many islands (e.g. after block values changed) without freezing the server.
+ *
+ * Islands are started at a rate that adapts to the server's average tick time: it grows by one island per second
+ * while MSPT is comfortably below the target and halves whenever MSPT goes above it, with a cap on calculations in
+ * flight. A run can be paused and resumed, and reports progress with an ETA from its measured throughput.
+ * While it runs, the plugin's own reactions to the resulting worth events are batched (see {@link IslandWorthEvents}).
+ */
+public final class WorthRecalculator {
+
+    public enum Scope {
+        ALL,
+        ONLINE,
+        TOP
+    }
+
+    private static final long WALK_BUDGET_NANOS = 2_000_000L;
+    private static final long ADAPT_PERIOD_TICKS = 20L;
+    private static final double START_RATE = 2.0;
+    private static final double MIN_RATE = 0.5;
+    private static final int MAX_IN_FLIGHT = 8;
+    private static final long IN_FLIGHT_TIMEOUT_MS = 60_000L;
+    private static final long PROGRESS_INTERVAL_MS = 10_000L;
+
+    private final PhilippeDrIslandValuePlugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final IslandWorthEvents worthEvents;
+    private final Messages messages;
+    private final double targetMspt;
+    private final double maxRate;
+
+    private Run running;
+
+    public WorthRecalculator(
+            PhilippeDrIslandValuePlugin plugin,
+            SuperiorSkyblock2Connector connector,
+            IslandWorthEvents worthEvents,
+            Messages messages
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.worthEvents = worthEvents;
+        this.messages = messages;
+        this.targetMspt = plugin.getConfig().getDouble("recalc.target-mspt", 40.0);
+        this.maxRate = Math.max(MIN_RATE, plugin.getConfig().getDouble("recalc.max-per-second", 20.0));
+    }
+
+    public boolean isRunning() {
+        return running != null;
+    }
+
+    /**
+     * Returns the islands a scope covers: every island, the islands of online players, or the {@code top}
+     * islands of SS2's worth leaderboard. Main thread only.
+     */
+    public List<UUID> islandsFor(Scope scope, int top) {
+        switch (scope) {
+            case ONLINE -> {
+                Set<UUID> islandIds = new LinkedHashSet<>();
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    UUID islandId = connector.getIslandUuid(connector.getIslandForPlayer(player.getUniqueId()));
+                    if (islandId != null) islandIds.add(islandId);
+                }
+                return new ArrayList<>(islandIds);
+            }
+            case TOP -> {
+                return connector.getTopIslandUuidsByWorth(top);
+            }
+            default -> {
+                return connector.getAllIslandUuids();
+            }
+        }
+    }
+
+    /**
+     * Starts recalculating the islands. Main thread only; returns false if a run is already in progress.
+     *
+     * @param description what the islands are, already in the sender's language
+     */
+    public boolean start(CommandSender sender, List<UUID> islandIds, String description) {
+        if (running != null) return false;
+
+        Run run = new Run(sender);
+        run.walker = new IslandGridWalker(plugin, connector, islandIds, WALK_BUDGET_NANOS, run::visit, run::finishQueueing);
+        running = run;
+        worthEvents.hold();
+
+        sender.sendMessage(messages.get(sender, "recalc.started",
+                String.valueOf(islandIds.size()), description, formatRate(targetMspt)));
+        run.walker.start();
+        run.controlTask = Bukkit.getScheduler().runTaskTimer(plugin, run::control, 1L, 1L);
+        return true;
+    }
+
+    public boolean pause() {
+        Run run = running;
+        if (run == null || run.paused) return false;
+        run.paused = true;
+        return true;
+    }
+
+    public boolean resume() {
+        Run run = running;
+        if (run == null || !run.paused) return false;
+        run.paused = false;
+        return true;
+    }
+
+    /**
+     * Stops queueing islands (calculations already started still finish). Returns false if nothing was running.
+     */
+    public boolean cancel() {
+        Run run = running;
+        if (run == null) return false;
+        run.finish(false);
+        return true;
+    }
+
+    public void sendStatus(CommandSender sender) {
+        Run run = running;
+        if (run == null) {
+            sender.sendMessage(messages.get(sender, "recalc.none"));
+            return;
+        }
+        sender.sendMessage(run.status(sender));
+    }
+
+    private static String formatRate(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String formatDuration(long seconds) {
+        if (seconds >= 3600) return String.format(Locale.ROOT, "%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+        return String.format(Locale.ROOT, "%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    private final class Run {
+        private final CommandSender sender;
+        // Islands SS2 is calculating, with when each was started.
+        private final Map<UUID, Long> inFlight = new HashMap<>();
+
+        private IslandGridWalker walker;
+        private BukkitTask controlTask;
+        private boolean paused;
+        private boolean queueingDone;
+        private double rate = START_RATE;
+        private double permits = 1.0;
+        private int completed;
+        private int failed;
+        private int timedOut;
+        private long ticks;
+        private long activeMs;
+        private long lastControlMs = System.currentTimeMillis();
+        private long lastProgressMs = System.currentTimeMillis();
+
+        Run(CommandSender sender) {
+            this.sender = sender;
+        }
+
+        // Main thread (walker): returns false to retry this island next tick.
+        boolean visit(UUID islandId, Object island) {
+            if (paused || permits < 1.0 || inFlight.size() >= MAX_IN_FLIGHT) return false;
+
+            permits -= 1.0;
+            inFlight.put(islandId, System.currentTimeMillis());
+            if (!connector.calcIslandWorth(island, () -> complete(islandId))) {
+                // SS2 rejected or threw; the callback won't come, so don't hold a slot until the timeout.
+                inFlight.remove(islandId);
+                failed++;
+            }
+            return true;
+        }
+
+        // Any thread: SS2 may finish a calculation off the main thread.
+        private void complete(UUID islandId) {
+            if (Bukkit.isPrimaryThread()) {
+                if (inFlight.remove(islandId) != null) completed++;
+                return;
+            }
+            try {
+                Bukkit.getScheduler().runTask(plugin, () -> complete(islandId));
+            } catch (Throwable ignored) {
+                // Plugin disabled.
+            }
+        }
+
+        // Main thread, every tick.
+        void control() {
+            long nowMs = System.currentTimeMillis();
+            if (!paused) activeMs += nowMs - lastControlMs;
+            lastControlMs = nowMs;
+
+            // Calculations SS2 never reported back (e.g. the island was deleted meanwhile).
+            Iterator<Long> startedAt = inFlight.values().iterator();
+            while (startedAt.hasNext()) {
+                if (nowMs - startedAt.next() > IN_FLIGHT_TIMEOUT_MS) {
+                    startedAt.remove();
+                    timedOut++;
+                }
+            }
+
+            if (queueingDone && inFlight.isEmpty()) {
+                finish(true);
+                return;
+            }
+
+            if (++ticks % ADAPT_PERIOD_TICKS == 0) {
+                double mspt = Bukkit.getAverageTickTime();
+                if (mspt > targetMspt) {
+                    rate = Math.max(MIN_RATE, rate / 2.0);
+                } else if (mspt < targetMspt * 0.75) {
+                    rate = Math.min(maxRate, rate + 1.0);
+                }
+            }
+            // At most a second's worth of permits, so a paused or throttled run doesn't start a burst.
+            if (!paused) permits = Math.min(Math.max(1.0, rate), permits + rate / 20.0);
+
+            if (nowMs - lastProgressMs >= PROGRESS_INTERVAL_MS) {
+                lastProgressMs = nowMs;
+                sender.sendMessage(status(sender));
+            }
+        }
+
+        // Main thread (walker).
+        void finishQueueing() {
+            queueingDone = true;
+        }
+
+        void finish(boolean complete) {
+            walker.cancel();
+            if (controlTask != null) controlTask.cancel();
+            running = null;
+            worthEvents.release();
+
+            if (complete) {
+                String elapsed = formatDuration(activeMs / 1000);
+                if (failed == 0 && timedOut == 0) {
+                    sender.sendMessage(messages.get(sender, "recalc.finished", String.valueOf(completed), elapsed));
+                } else {
+                    sender.sendMessage(messages.get(sender, "recalc.finished-errors", String.valueOf(completed), elapsed,
+                            String.valueOf(failed), String.valueOf(timedOut)));
+                }
+            } else if (inFlight.isEmpty()) {
+                sender.sendMessage(messages.get(sender, "recalc.cancelled", String.valueOf(done()), String.valueOf(total())));
+            } else {
+                sender.sendMessage(messages.get(sender, "recalc.cancelled-in-flight", String.valueOf(done()), String.valueOf(total()),
+                        String.valueOf(inFlight.size())));
+            }
+        }
+
+        int done() {
+            return completed + failed + timedOut;
+        }
+
+        // Islands that actually get queued: ones deleted before the walker reached them never will.
+        int total() {
+            return walker.total() - walker.skipped();
+        }
+
+        // In the recipient's language.
+        String status(CommandSender recipient) {
+            int done = done();
+            int total = total();
+            String doneText = String.valueOf(done);
+            String totalText = String.valueOf(total);
+            String inFlightText = String.valueOf(inFlight.size());
+            String rateText = formatRate(rate);
+            String msptText = formatRate(Bukkit.getAverageTickTime());
+
+            if (paused) {
+                return messages.get(recipient, "recalc.status-paused", doneText, totalText, inFlightText, rateText, msptText);
+            }
+            if (done > 0 && activeMs > 0) {
+                // ETA from measured throughput; paused time doesn't count.
+                double perSecond = done * 1000.0 / activeMs;
+                String eta = formatDuration((long) Math.ceil((total - done) / perSecond));
+                return messages.get(recipient, "recalc.status-eta", doneText, totalText, inFlightText, rateText, msptText, eta);
+            }
+            return messages.get(recipient, "recalc.status", doneText, totalText, inFlightText, rateText, msptText);
+        }
+    }
+}
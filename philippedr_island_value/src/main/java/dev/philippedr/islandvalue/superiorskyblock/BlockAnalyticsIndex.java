@@ -0,0 +1,391 @@
+package dev.philippedr.islandvalue.superiorskyblock;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Server-wide block counts of every island, for "how many X exist" and "who has the most X" queries.
+ *
+ * Block keys are dictionary-encoded to dense int ids (names come from the breakdown index's parsed keys), and
+ * each island is one row of two primitive arrays: its key ids ascending and their counts. Per-key totals and
+ * holder counts are kept alongside, so an aggregate is a lookup and a top-N is one binary search per island.
+ *
+ * The index is built once by walking every island within a per-tick budget, then kept current from SS2's
+ * worth events (islands are re-read in budgeted batches) and disbands. Main thread only.
+ */
+public final class BlockAnalyticsIndex implements Listener {
+
+    private static final long BUILD_BUDGET_NANOS = 2_000_000L;
+    private static final long UPDATE_BUDGET_NANOS = 1_000_000L;
+    private static final long UPDATE_PERIOD_TICKS = 20L;
+    private static final int[] NO_KEYS = new int[0];
+    private static final long[] NO_COUNTS = new long[0];
+
+    private final Plugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final IslandBreakdownIndex breakdowns;
+    private final IslandWorthEvents worthEvents;
+
+    // Key dictionary: SS2 key objects and their names map to dense ids.
+    private final Map<Object, Integer> idByKey = new HashMap<>();
+    private final Map<String, Integer> idByName = new HashMap<>();
+    private String[] names = new String[64];
+    // Exact per-key totals: a long while it fits, a BigInteger (non-null) once it overflowed.
+    private long[] totals = new long[64];
+    private BigInteger[] bigTotals = new BigInteger[64];
+    private int[] holders = new int[64];
+    private int keyCount;
+
+    // Island rows; freed rows are reused.
+    private final Map<UUID, Integer> rowByIsland = new HashMap<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+    private UUID[] islandByRow = new UUID[256];
+    private int[][] keyIdsByRow = new int[256][];
+    private long[][] countsByRow = new long[256][];
+    private int rowCount;
+
+    // Scratch for building a row: count per key id, and the ids touched.
+    private long[] scratchCounts = new long[64];
+    private int[] scratchIds = new int[64];
+
+    private final Set<UUID> dirtyIslands = new LinkedHashSet<>();
+    private IslandGridWalker builder;
+    private boolean built;
+    private BukkitTask updateTask;
+
+    public BlockAnalyticsIndex(
+            Plugin plugin,
+            SuperiorSkyblock2Connector connector,
+            IslandBreakdownIndex breakdowns,
+            IslandWorthEvents worthEvents
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.breakdowns = breakdowns;
+        this.worthEvents = worthEvents;
+    }
+
+    public void start() {
+        worthEvents.subscribe(dirtyIslands::add);
+        connector.registerEventHook(plugin, this, "IslandWorthUpdateEvent", EventPriority.MONITOR, event -> {
+            UUID islandId = connector.getIslandUuid(connector.getEventIsland(event));
+            if (islandId != null) onMainThread(() -> dirtyIslands.add(islandId));
+        });
+        connector.registerEventHook(plugin, this, "IslandDisbandEvent", EventPriority.MONITOR, event -> {
+            UUID islandId = connector.getIslandUuid(connector.getEventIsland(event));
+            if (islandId == null) return;
+            onMainThread(() -> {
+                dirtyIslands.remove(islandId);
+                removeIsland(islandId);
+            });
+        });
+        // Rows only hold key ids and names, which stay valid; just forget SS2's key objects.
+        connector.onUnbind(idByKey::clear);
+
+        this.updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::update, UPDATE_PERIOD_TICKS, UPDATE_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (updateTask != null) updateTask.cancel();
+        if (builder != null) builder.cancel();
+        builder = null;
+        dirtyIslands.clear();
+        idByKey.clear();
+    }
+
+    /**
+     * Whether every island has been read at least once.
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public int buildProcessed() {
+        IslandGridWalker walker = builder;
+        return walker == null ? rowByIsland.size() : walker.processed();
+    }
+
+    public int buildTotal() {
+        IslandGridWalker walker = builder;
+        return walker == null ? rowByIsland.size() : walker.total();
+    }
+
+    /**
+     * Key names known to the index, for tab completion.
+     */
+    public List<String> keyNames() {
+        List<String> out = new ArrayList<>(keyCount);
+        for (int id = 0; id < keyCount; id++) {
+            if (holders[id] > 0) out.add(names[id]);
+        }
+        Collections.sort(out);
+        return out;
+    }
+
+    /**
+     * Returns the key's server-wide total and the {@code limit} islands holding the most of it, or null if the
+     * key isn't known. Owner names are only resolved for the returned islands.
+     */
+    public KeyReport query(String keyName, int limit) {
+        if (keyName == null) return null;
+        Integer boxed = idByName.get(keyName.toUpperCase(Locale.ENGLISH));
+        if (boxed == null) return null;
+        int id = boxed;
+
+        // Min-heap of the best rows so far, keyed by count.
+        PriorityQueue<long[]> best = new PriorityQueue<>(Comparator.comparingLong((long[] e) -> e[1]));
+        if (limit > 0 && holders[id] > 0) {
+            for (int row = 0; row < rowCount; row++) {
+                int[] keyIds = keyIdsByRow[row];
+                if (islandByRow[row] == null || keyIds == null) continue;
+
+                int at = Arrays.binarySearch(keyIds, id);
+                if (at < 0) continue;
+
+                long count = countsByRow[row][at];
+                if (best.size() < limit) {
+                    best.add(new long[]{row, count});
+                } else if (count > best.peek()[1]) {
+                    best.poll();
+                    best.add(new long[]{row, count});
+                }
+            }
+        }
+
+        List<IslandCount> top = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            long[] entry = best.poll();
+            UUID islandId = islandByRow[(int) entry[0]];
+            top.add(new IslandCount(islandId, connector.getIslandOwnerName(connector.getIslandByUuid(islandId)), entry[1]));
+        }
+        Collections.reverse(top);
+        return new KeyReport(names[id], total(id), holders[id], top);
+    }
+
+    public Stats stats() {
+        long bytes = 256L + keyCount * 64L + islandByRow.length * 32L;
+        for (int row = 0; row < rowCount; row++) {
+            int[] keyIds = keyIdsByRow[row];
+            if (keyIds != null) bytes += 96L + keyIds.length * 12L;
+        }
+        return new Stats(rowByIsland.size(), keyCount, bytes);
+    }
+
+    // SS2 may fire worth updates off the main thread; the index is main-thread only.
+    private void onMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return;
+        }
+        try {
+            Bukkit.getScheduler().runTask(plugin, task);
+        } catch (Throwable ignored) {
+            // Plugin disabled.
+        }
+    }
+
+    private void update() {
+        if (!connector.isAvailable()) return;
+
+        if (!built && builder == null) {
+            if (!connector.supports(SuperiorSkyblock2Connector.Capability.ISLAND_LIST)) return;
+            builder = new IslandGridWalker(plugin, connector, connector.getAllIslandUuids(), BUILD_BUDGET_NANOS,
+                    (islandId, island) -> {
+                        setRow(islandId, connector.getIslandBlockCounts(island));
+                        return true;
+                    },
+                    () -> {
+                        built = true;
+                        builder = null;
+                    });
+            builder.start();
+        }
+
+        long deadline = System.nanoTime() + UPDATE_BUDGET_NANOS;
+        Iterator<UUID> it = dirtyIslands.iterator();
+        while (it.hasNext() && System.nanoTime() < deadline) {
+            UUID islandId = it.next();
+            it.remove();
+
+            Object island = connector.getIslandByUuid(islandId);
+            if (island == null) {
+                removeIsland(islandId);
+            } else {
+                setRow(islandId, connector.getIslandBlockCounts(island));
+            }
+        }
+    }
+
+    private void setRow(UUID islandId, Map<Object, BigInteger> counts) {
+        int touched = 0;
+        for (Map.Entry<Object, BigInteger> entry : counts.entrySet()) {
+            Object key = entry.getKey();
+            BigInteger amount = entry.getValue();
+            if (key == null || amount == null || amount.signum() <= 0) continue;
+
+            int id = keyId(key);
+            if (scratchCounts[id] == 0) {
+                if (touched == scratchIds.length) scratchIds = Arrays.copyOf(scratchIds, touched * 2);
+                scratchIds[touched++] = id;
+            }
+            // Distinct key objects can share a name; their counts add up (saturating: a row's counts are longs).
+            long count = amount.bitLength() < 64 ? amount.longValue() : Long.MAX_VALUE;
+            scratchCounts[id] = saturatedAdd(scratchCounts[id], count);
+        }
+
+        if (touched == 0) {
+            removeIsland(islandId);
+            return;
+        }
+
+        int[] keyIds = Arrays.copyOf(scratchIds, touched);
+        Arrays.sort(keyIds);
+        long[] rowCounts = new long[touched];
+        for (int i = 0; i < touched; i++) {
+            rowCounts[i] = scratchCounts[keyIds[i]];
+            scratchCounts[keyIds[i]] = 0;
+        }
+
+        Integer existing = rowByIsland.get(islandId);
+        int row;
+        if (existing != null) {
+            row = existing;
+            subtract(row);
+        } else {
+            row = allocateRow();
+            rowByIsland.put(islandId, row);
+            islandByRow[row] = islandId;
+        }
+        keyIdsByRow[row] = keyIds;
+        countsByRow[row] = rowCounts;
+        add(row);
+    }
+
+    private void removeIsland(UUID islandId) {
+        Integer row = rowByIsland.remove(islandId);
+        if (row == null) return;
+        subtract(row);
+        islandByRow[row] = null;
+        keyIdsByRow[row] = NO_KEYS;
+        countsByRow[row] = NO_COUNTS;
+        freeRows.push(row);
+    }
+
+    private void add(int row) {
+        int[] keyIds = keyIdsByRow[row];
+        long[] rowCounts = countsByRow[row];
+        for (int i = 0; i < keyIds.length; i++) {
+            int id = keyIds[i];
+            if (bigTotals[id] != null) {
+                bigTotals[id] = bigTotals[id].add(BigInteger.valueOf(rowCounts[i]));
+            } else {
+                long sum = totals[id] + rowCounts[i];
+                // Counts are non-negative, so a negative sum means the long overflowed.
+                if (sum < 0) {
+                    bigTotals[id] = BigInteger.valueOf(totals[id]).add(BigInteger.valueOf(rowCounts[i]));
+                } else {
+                    totals[id] = sum;
+                }
+            }
+            holders[id]++;
+        }
+    }
+
+    // Exact inverse of add: the row's counts are the ones it added.
+    private void subtract(int row) {
+        int[] keyIds = keyIdsByRow[row];
+        long[] rowCounts = countsByRow[row];
+        for (int i = 0; i < keyIds.length; i++) {
+            int id = keyIds[i];
+            if (bigTotals[id] != null) {
+                BigInteger left = bigTotals[id].subtract(BigInteger.valueOf(rowCounts[i]));
+                if (left.bitLength() < 64) {
+                    totals[id] = left.longValue();
+                    bigTotals[id] = null;
+                } else {
+                    bigTotals[id] = left;
+                }
+            } else {
+                totals[id] -= rowCounts[i];
+            }
+            holders[id]--;
+        }
+    }
+
+    private BigInteger total(int id) {
+        return bigTotals[id] != null ? bigTotals[id] : BigInteger.valueOf(totals[id]);
+    }
+
+    private int allocateRow() {
+        Integer free = freeRows.poll();
+        if (free != null) return free;
+
+        if (rowCount == islandByRow.length) {
+            int capacity = rowCount * 2;
+            islandByRow = Arrays.copyOf(islandByRow, capacity);
+            keyIdsByRow = Arrays.copyOf(keyIdsByRow, capacity);
+            countsByRow = Arrays.copyOf(countsByRow, capacity);
+        }
+        return rowCount++;
+    }
+
+    private int keyId(Object key) {
+        Integer cached = idByKey.get(key);
+        if (cached != null) return cached;
+
+        String name = breakdowns.keyInfo(key).text().toUpperCase(Locale.ENGLISH);
+        Integer id = idByName.get(name);
+        if (id == null) {
+            id = keyCount++;
+            if (id == names.length) {
+                int capacity = id * 2;
+                names = Arrays.copyOf(names, capacity);
+                totals = Arrays.copyOf(totals, capacity);
+                bigTotals = Arrays.copyOf(bigTotals, capacity);
+                holders = Arrays.copyOf(holders, capacity);
+                scratchCounts = Arrays.copyOf(scratchCounts, capacity);
+            }
+            names[id] = name;
+            idByName.put(name, id);
+        }
+        idByKey.put(key, id);
+        return id;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    public record IslandCount(UUID islandId, String ownerName, long count) {
+    }
+
+    public record KeyReport(String key, BigInteger total, int islands, List<IslandCount> top) {
+    }
+
+    /**
+     * Indexed islands, dictionary size and a rough heap estimate of the rows and dictionary.
+     */
+    public record Stats(int islands, int keys, long estimatedBytes) {
+    }
+}
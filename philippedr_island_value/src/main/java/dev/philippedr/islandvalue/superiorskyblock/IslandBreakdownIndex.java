@@ -0,0 +1,301 @@
+package dev.philippedr.islandvalue.superiorskyblock;
+
+import dev.philippedr.islandvalue.cache.BoundedCache;
+import dev.philippedr.islandvalue.superiorskyblock.SuperiorSkyblock2IslandValueCheck.BlockWorthLine;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Per-island block value breakdowns (key -> count, worth contribution, ordered by worth) kept up to date
+ * from block count diffs.
+ *
+ * A refresh still reads SS2's counts map, but only keys whose count changed are re-priced and re-sorted,
+ * so its cost follows what was placed or broken rather than how many block types the island has. Key names
+ * and block prices are cached across islands. A breakdown is only rebuilt from scratch when SS2 recalculates
+ * the island's worth (a resync) or the periodic price check finds changed block values (a price reload).
+ * Main thread only.
+ */
+public final class IslandBreakdownIndex implements Listener {
+
+    private static final long PRICE_CHECK_PERIOD_TICKS = 6000L;
+
+    private static final Comparator<Line> LINE_ORDER = Comparator
+            .comparing((Line line) -> line.value.worthEach()).reversed()
+            .thenComparing((Line line) -> line.value.worthTotal(), Comparator.reverseOrder())
+            .thenComparingLong(line -> line.seq);
+
+    private final SuperiorSkyblock2Connector connector;
+    private final IslandWorthEvents worthEvents;
+    private final BoundedCache<UUID, IslandBreakdown> breakdowns;
+
+    private final Map<Object, KeyInfo> keyInfoByKey = new HashMap<>();
+    // Unvalued keys are cached as zero.
+    private final Map<Object, BigDecimal> priceByKey = new HashMap<>();
+    // Scale-independent hash of each cached price, for the content fingerprint.
+    private final Map<Object, Long> priceHashByKey = new HashMap<>();
+
+    private Runnable priceChangeListener = () -> { };
+    private BukkitTask priceCheckTask;
+    private long nextSeq;
+
+    public IslandBreakdownIndex(SuperiorSkyblock2Connector connector, IslandWorthEvents worthEvents, long maxWeightBytes, long expireAfterAccessMs) {
+        this.connector = connector;
+        this.worthEvents = worthEvents;
+        this.breakdowns = new BoundedCache<>(maxWeightBytes, expireAfterAccessMs, IslandBreakdown::estimatedBytes);
+    }
+
+    public void start(Plugin plugin) {
+        worthEvents.subscribe(this::invalidate);
+        connector.registerEventHook(plugin, this, "IslandDisbandEvent", EventPriority.MONITOR, event ->
+                invalidate(connector.getIslandUuid(connector.getEventIsland(event))));
+        // Breakdowns and the key caches hold SS2 key objects; don't keep its class loader alive once it's gone.
+        connector.onUnbind(this::clear);
+
+        this.priceCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkPrices, PRICE_CHECK_PERIOD_TICKS, PRICE_CHECK_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (priceCheckTask != null) priceCheckTask.cancel();
+        clear();
+    }
+
+    private void clear() {
+        breakdowns.clear();
+        keyInfoByKey.clear();
+        priceByKey.clear();
+        priceHashByKey.clear();
+    }
+
+    /**
+     * Brings the island's breakdown up to date and returns its lines, best worth each first (unclamped),
+     * with the fingerprint of its counts and prices.
+     *
+     * @param retain whether to keep a newly built breakdown; bulk walks pass false so they don't evict
+     *               the islands players are looking at (an existing breakdown is still reused and updated)
+     */
+    Lines update(UUID islandId, Object island, boolean retain) {
+        IslandBreakdown existing = islandId == null ? null : (retain ? breakdowns.get(islandId) : breakdowns.peek(islandId));
+        IslandBreakdown breakdown = existing != null ? existing : new IslandBreakdown();
+        breakdown.apply(connector.getIslandBlockCounts(island));
+
+        // Re-put to re-weigh after the update.
+        if (islandId != null && (retain || existing != null)) breakdowns.put(islandId, breakdown);
+
+        TreeSet<Line> ordered = breakdown.ordered;
+        return new Lines(() -> ordered.stream().map(line -> line.value).iterator(), breakdown.contentVersion());
+    }
+
+    /**
+     * Called on the main thread after the price check found changed block values.
+     */
+    public void setPriceChangeListener(Runnable priceChangeListener) {
+        this.priceChangeListener = priceChangeListener;
+    }
+
+    KeyInfo keyInfo(Object key) {
+        return keyInfoByKey.computeIfAbsent(key, k -> {
+            String global = connector.getKeyGlobalPart(k);
+            String sub = connector.getKeySubPart(k);
+            return new KeyInfo(connector.formatKey(k), global, sub != null && !sub.isEmpty());
+        });
+    }
+
+    public void invalidate(UUID islandId) {
+        if (islandId != null) breakdowns.remove(islandId);
+    }
+
+    public BoundedCache.Stats cacheStats() {
+        return breakdowns.stats();
+    }
+
+    private BigDecimal price(Object key) {
+        return priceByKey.computeIfAbsent(key, k -> orZero(connector.getBlockWorth(k)));
+    }
+
+    private long priceHash(Object key) {
+        return priceHashByKey.computeIfAbsent(key, k -> mix(price(k).stripTrailingZeros().hashCode()));
+    }
+
+    /**
+     * One key's share of the content fingerprint; depends only on its name, count and price.
+     */
+    private long keyHash(Object key, BigInteger amount) {
+        long h = mix(keyInfo(key).text().hashCode());
+        h = mix(h ^ amount.hashCode());
+        return mix(h ^ priceHash(key));
+    }
+
+    /**
+     * Re-reads every cached block price; if SS2's block values changed (e.g. a reload), all breakdowns are
+     * dropped and rebuilt on next use, and the listener is told so cached values get refreshed. Stored
+     * snapshots need no invalidation: their version covers the prices of the island's blocks.
+     */
+    private void checkPrices() {
+        breakdowns.cleanUp();
+        if (priceByKey.isEmpty() || !connector.isAvailable()) return;
+
+        boolean changed = false;
+        for (Map.Entry<Object, BigDecimal> entry : priceByKey.entrySet()) {
+            BigDecimal current = orZero(connector.getBlockWorth(entry.getKey()));
+            if (current.compareTo(entry.getValue()) != 0) {
+                entry.setValue(current);
+                changed = true;
+            }
+        }
+        if (!changed) return;
+        // Fingerprints hold the old price hashes; the breakdowns carrying them are dropped too.
+        priceHashByKey.clear();
+        breakdowns.clear();
+        priceChangeListener.run();
+    }
+
+    private static long mix(long h) {
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        h *= 0x94D049BB133111EBL;
+        return h ^ (h >>> 29);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    record KeyInfo(String text, String global, boolean hasSub) {
+
+        boolean hasGlobal() {
+            return global != null && !global.isEmpty();
+        }
+    }
+
+    private record Line(BlockWorthLine value, long seq) {
+    }
+
+    /**
+     * An updated breakdown's lines and its content fingerprint.
+     */
+    record Lines(Iterable<BlockWorthLine> sorted, long contentVersion) {
+    }
+
+    private final class IslandBreakdown {
+
+        // Positive counts as last seen, including SS2's derived global keys.
+        final Map<Object, BigInteger> counts = new HashMap<>();
+        final Map<String, Integer> subKeysByGlobal = new HashMap<>();
+        final Map<String, Object> plainKeyByGlobal = new HashMap<>();
+        final Map<Object, Line> lines = new HashMap<>();
+        final TreeSet<Line> ordered = new TreeSet<>(LINE_ORDER);
+        // Sum of keyHash over counts, kept up to date as counts change.
+        long contentSum;
+
+        void apply(Map<Object, BigInteger> latest) {
+            // Globals whose "has sub-keys" state flipped: their plain aggregate key becomes hidden or visible.
+            Set<String> flipped = new HashSet<>();
+
+            Iterator<Map.Entry<Object, BigInteger>> it = counts.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Object, BigInteger> entry = it.next();
+                BigInteger amount = latest.get(entry.getKey());
+                if (amount != null && amount.signum() > 0) continue;
+                it.remove();
+                contentSum -= keyHash(entry.getKey(), entry.getValue());
+                untrack(entry.getKey(), flipped);
+            }
+
+            for (Map.Entry<Object, BigInteger> entry : latest.entrySet()) {
+                Object key = entry.getKey();
+                BigInteger amount = entry.getValue();
+                if (key == null || amount == null || amount.signum() <= 0) continue;
+
+                BigInteger previous = counts.put(key, amount);
+                if (previous == null) {
+                    contentSum += keyHash(key, amount);
+                    track(key, flipped);
+                    updateLine(key, amount);
+                } else if (!previous.equals(amount)) {
+                    contentSum += keyHash(key, amount) - keyHash(key, previous);
+                    updateLine(key, amount);
+                }
+            }
+
+            for (String global : flipped) {
+                Object plain = plainKeyByGlobal.get(global);
+                BigInteger amount = plain == null ? null : counts.get(plain);
+                if (amount != null) updateLine(plain, amount);
+            }
+        }
+
+        private void track(Object key, Set<String> flipped) {
+            KeyInfo info = keyInfo(key);
+            if (!info.hasGlobal()) return;
+            if (info.hasSub()) {
+                if (subKeysByGlobal.merge(info.global(), 1, Integer::sum) == 1) flipped.add(info.global());
+            } else {
+                plainKeyByGlobal.put(info.global(), key);
+            }
+        }
+
+        private void untrack(Object key, Set<String> flipped) {
+            removeLine(key);
+            KeyInfo info = keyInfo(key);
+            if (!info.hasGlobal()) return;
+            if (info.hasSub()) {
+                Integer left = subKeysByGlobal.merge(info.global(), -1, (a, b) -> a + b <= 0 ? null : a + b);
+                if (left == null) flipped.add(info.global());
+            } else {
+                plainKeyByGlobal.remove(info.global(), key);
+            }
+        }
+
+        private void updateLine(Object key, BigInteger amount) {
+            removeLine(key);
+
+            // Plain global keys are SS2 aggregates of their sub-keys; counting both would double up.
+            KeyInfo info = keyInfo(key);
+            if (info.hasGlobal() && !info.hasSub() && subKeysByGlobal.containsKey(info.global())) return;
+
+            BigDecimal worthEach = price(key);
+            if (worthEach.signum() <= 0) return;
+
+            BigDecimal worthTotal = worthEach.multiply(new BigDecimal(amount));
+            if (worthTotal.signum() <= 0) return;
+
+            Line line = new Line(new BlockWorthLine(info.text(), amount, worthEach, worthTotal), nextSeq++);
+            lines.put(key, line);
+            ordered.add(line);
+        }
+
+        private void removeLine(Object key) {
+            Line line = lines.remove(key);
+            if (line != null) ordered.remove(line);
+        }
+
+        /**
+         * Order-independent 64-bit fingerprint of the counts and the prices of the counted keys. It only depends on
+         * key names, counts and prices, so servers sharing SS2's data agree on it.
+         */
+        long contentVersion() {
+            return mix(contentSum ^ counts.size());
+        }
+
+        /**
+         * Rough heap size: a map entry per counted key plus a line and tree node per valued key.
+         */
+        long estimatedBytes() {
+            return 256L + counts.size() * 96L + lines.size() * 224L;
+        }
+    }
+}
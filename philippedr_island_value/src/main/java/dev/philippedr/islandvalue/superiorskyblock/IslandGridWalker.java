@@ -0,0 +1,106 @@
+package dev.philippedr.islandvalue.superiorskyblock;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Visits every island of a fixed list on the main thread, spending at most a time budget per tick.
+ *
+ * Islands that disappeared since the list was taken are skipped. A visitor can apply backpressure by
+ * returning false, in which case the same island is visited again next tick.
+ */
+public final class IslandGridWalker {
+
+    @FunctionalInterface
+    public interface IslandVisitor {
+        /**
+         * Returns false to stop for this tick and retry the same island on the next one.
+         */
+        boolean visit(UUID islandId, Object island);
+    }
+
+    private final Plugin plugin;
+    private final SuperiorSkyblock2Connector connector;
+    private final List<UUID> islandIds;
+    private final long budgetNanos;
+    private final IslandVisitor visitor;
+    private final Runnable onComplete;
+
+    private volatile int index;
+    private volatile int skipped;
+    private volatile boolean done;
+    private BukkitTask task;
+
+    public IslandGridWalker(
+            Plugin plugin,
+            SuperiorSkyblock2Connector connector,
+            List<UUID> islandIds,
+            long budgetNanos,
+            IslandVisitor visitor,
+            Runnable onComplete
+    ) {
+        this.plugin = plugin;
+        this.connector = connector;
+        this.islandIds = List.copyOf(islandIds);
+        this.budgetNanos = budgetNanos;
+        this.visitor = visitor;
+        this.onComplete = onComplete;
+    }
+
+    public void start() {
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void cancel() {
+        done = true;
+        if (task != null) task.cancel();
+    }
+
+    public int processed() {
+        return index;
+    }
+
+    public int total() {
+        return islandIds.size();
+    }
+
+    /**
+     * Islands that had disappeared by the time the walker reached them; they count as processed but weren't visited.
+     */
+    public int skipped() {
+        return skipped;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    private void tick() {
+        if (done) return;
+        // SuperiorSkyblock2 went away; wait for it rather than skipping islands.
+        if (!connector.isAvailable()) return;
+
+        long deadline = System.nanoTime() + budgetNanos;
+        int i = index;
+        while (i < islandIds.size() && System.nanoTime() < deadline) {
+            UUID islandId = islandIds.get(i);
+            Object island = connector.getIslandByUuid(islandId);
+            if (island == null) {
+                skipped++;
+            } else if (!visitor.visit(islandId, island)) {
+                break;
+            }
+            i++;
+        }
+        index = i;
+
+        if (i >= islandIds.size()) {
+            cancel();
+            onComplete.run();
+        }
+    }
+}
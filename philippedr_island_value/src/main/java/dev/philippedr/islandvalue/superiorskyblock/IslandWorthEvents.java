@@ -0,0 +1,121 @@
+package dev.philippedr.islandvalue.superiorskyblock;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The plugin's single subscription to SS2's IslandWorthCalculatedEvent, fanned out to the caches that react to it.
+ *
+ * Normally each event is passed on straight away. While held (during a bulk recalculation), island ids are
+ * collected instead and passed on deduplicated every few seconds within a time budget, so thousands of
+ * recalculated islands don't each trigger their own invalidation as they finish. Main thread only; events SS2
+ * fires on other threads are handed to the main thread first, so subscribers are always called there.
+ */
+public final class IslandWorthEvents implements Listener {
+
+    private static final long FLUSH_PERIOD_TICKS = 100L;
+    private static final long FLUSH_BUDGET_NANOS = 1_000_000L;
+
+    private final SuperiorSkyblock2Connector connector;
+    private final List<Consumer<UUID>> subscribers = new CopyOnWriteArrayList<>();
+    private final Set<UUID> heldIslands = new LinkedHashSet<>();
+
+    private int holds;
+    private BukkitTask flushTask;
+
+    public IslandWorthEvents(SuperiorSkyblock2Connector connector) {
+        this.connector = connector;
+    }
+
+    public void start(Plugin plugin) {
+        connector.registerEventHook(plugin, this, "IslandWorthCalculatedEvent", EventPriority.MONITOR, event -> {
+            UUID islandId = connector.getIslandUuid(connector.getEventIsland(event));
+            if (islandId == null) return;
+            if (Bukkit.isPrimaryThread()) {
+                onCalculated(islandId);
+                return;
+            }
+            // SS2 may finish a calculation off the main thread; the held set and the subscribers are main-thread only.
+            try {
+                Bukkit.getScheduler().runTask(plugin, () -> onCalculated(islandId));
+            } catch (Throwable ignored) {
+                // Plugin disabled.
+            }
+        });
+
+        this.flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, FLUSH_PERIOD_TICKS, FLUSH_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (flushTask != null) flushTask.cancel();
+        subscribers.clear();
+        heldIslands.clear();
+        holds = 0;
+    }
+
+    /**
+     * Registers a handler called with the id of each island whose worth SS2 recalculated.
+     */
+    public void subscribe(Consumer<UUID> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Starts batching; calls nest, and batching ends with the matching {@link #release()}.
+     */
+    public void hold() {
+        holds++;
+    }
+
+    /**
+     * Ends one {@link #hold()}. Islands still held are passed on over the next flushes.
+     */
+    public void release() {
+        if (holds > 0) holds--;
+    }
+
+    public boolean isHeld() {
+        return holds > 0;
+    }
+
+    public int heldCount() {
+        return heldIslands.size();
+    }
+
+    private void onCalculated(UUID islandId) {
+        if (holds > 0) {
+            heldIslands.add(islandId);
+        } else {
+            dispatch(islandId);
+        }
+    }
+
+    private void flush() {
+        if (heldIslands.isEmpty()) return;
+
+        long deadline = System.nanoTime() + FLUSH_BUDGET_NANOS;
+        Iterator<UUID> it = heldIslands.iterator();
+        while (it.hasNext() && System.nanoTime() < deadline) {
+            UUID islandId = it.next();
+            it.remove();
+            dispatch(islandId);
+        }
+    }
+
+    private void dispatch(UUID islandId) {
+        for (Consumer<UUID> subscriber : subscribers) {
+            subscriber.accept(islandId);
+        }
+    }
+}
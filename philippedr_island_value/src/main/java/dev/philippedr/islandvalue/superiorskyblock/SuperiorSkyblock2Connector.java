@@ -1,59 +1,243 @@
 package dev.philippedr.islandvalue.superiorskyblock;
 
+import dev.philippedr.islandvalue.diagnostics.SuperiorCallEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
 import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-
-public final class SuperiorSkyblock2Connector {
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reflective bridge to the SuperiorSkyblock2 API.
+ *
+ * SS2's enable/disable events drive a small state machine: on enable, the API classes are loaded from SS2's
+ * class loader once, every method and event this plugin uses is resolved, and the result is published as an
+ * immutable {@link Binding} through a volatile field. Hot paths only read that field. Methods missing from the
+ * installed SS2 version are left unresolved, so the calls that need them return null/empty without throwing,
+ * and {@link #capabilities()} reports what is supported. Event hooks registered while SS2 is absent are kept
+ * and attached when it enables (SS2 is not a declared dependency, so it may enable after us).
+ */
+public final class SuperiorSkyblock2Connector implements Listener {
 
     private static final String PLUGIN_NAME = "SuperiorSkyblock2";
     private static final String API_CLASS = "com.bgsoftware.superiorskyblock.api.SuperiorSkyblockAPI";
     private static final String KEY_CLASS = "com.bgsoftware.superiorskyblock.api.key.Key";
     private static final String ISLAND_CLASS = "com.bgsoftware.superiorskyblock.api.island.Island";
     private static final String SORTING_TYPE_CLASS = "com.bgsoftware.superiorskyblock.api.island.SortingType";
+    private static final String PLAYER_CLASS = "com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer";
+    private static final String GRID_CLASS = "com.bgsoftware.superiorskyblock.api.handlers.GridManager";
+    private static final String BLOCK_VALUES_CLASS = "com.bgsoftware.superiorskyblock.api.handlers.BlockValuesManager";
+    private static final String EVENTS_PACKAGE = "com.bgsoftware.superiorskyblock.api.events.";
 
-    public boolean isAvailable() {
-        Plugin plugin = Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
-        if (plugin == null || !plugin.isEnabled()) return false;
+    /**
+     * SS2 events this plugin may hook; resolved once per enable.
+     */
+    private static final List<String> KNOWN_EVENTS = List.of(
+            "IslandWorthCalculatedEvent",
+            "IslandWorthUpdateEvent",
+            "IslandJoinEvent",
+            "IslandQuitEvent",
+            "IslandKickEvent",
+            "IslandTransferEvent",
+            "IslandDisbandEvent",
+            "IslandSetHomeEvent",
+            "IslandEnterEvent",
+            "IslandLeaveEvent"
+    );
 
-        try {
-            Class.forName(API_CLASS);
-            return true;
-        } catch (ClassNotFoundException e) {
-            return false;
+    /**
+     * Returned by {@link #call} when the method is missing or SS2 threw.
+     */
+    private static final Object FAILED = new Object();
+
+    public enum State {
+        /** SuperiorSkyblock2 is not installed. */
+        ABSENT,
+        /** Installed but disabled, or its API couldn't be loaded. */
+        DISABLED,
+        ENABLED
+    }
+
+    public enum Capability {
+        ISLAND_LOOKUP,
+        PLAYER_ISLAND,
+        ISLAND_LIST,
+        WORTH,
+        WORTH_BREAKDOWN,
+        WORTH_RANK,
+        WORTH_LEADERBOARD,
+        OWNER,
+        HOMES,
+        BLOCK_COUNTS,
+        BLOCK_VALUES,
+        KEY_PARTS,
+        WORTH_RECALC
+    }
+
+    private static final long HANDLER_FAILURE_LOG_INTERVAL_MS = 60_000L;
+
+    private final List<EventHook> hooks = new CopyOnWriteArrayList<>();
+    private final List<Runnable> unbindListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Binding binding;
+    private volatile State state = State.ABSENT;
+    private Logger logger;
+
+    /**
+     * Starts following SS2's lifecycle and binds right away if it's already enabled.
+     */
+    public void start(Plugin plugin) {
+        this.logger = plugin.getLogger();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+
+        Plugin superior = Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
+        if (superior != null && superior.isEnabled()) {
+            bind(superior);
+        } else {
+            state = superior == null ? State.ABSENT : State.DISABLED;
         }
     }
 
+    public void stop() {
+        unbind(State.DISABLED);
+        hooks.clear();
+        unbindListeners.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        if (PLUGIN_NAME.equals(event.getPlugin().getName())) bind(event.getPlugin());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (PLUGIN_NAME.equals(event.getPlugin().getName())) unbind(State.DISABLED);
+    }
+
+    private void bind(Plugin superior) {
+        Binding probed = Binding.probe(superior.getClass().getClassLoader());
+        if (probed == null) {
+            state = State.DISABLED;
+            if (logger != null) logger.warning("SuperiorSkyblock2 is enabled but its API couldn't be loaded; island values are unavailable.");
+            return;
+        }
+
+        binding = probed;
+        state = State.ENABLED;
+        for (EventHook hook : hooks) {
+            attach(probed, hook);
+        }
+
+        if (logger != null) {
+            logger.info("Hooked into SuperiorSkyblock2 " + superior.getDescription().getVersion()
+                    + " (" + probed.capabilities.size() + "/" + Capability.values().length + " capabilities, "
+                    + probed.eventClasses.size() + "/" + KNOWN_EVENTS.size() + " events)");
+            EnumSet<Capability> missing = EnumSet.allOf(Capability.class);
+            missing.removeAll(probed.capabilities);
+            if (!missing.isEmpty()) logger.warning("SuperiorSkyblock2 API is missing: " + missing);
+        }
+    }
+
+    private void unbind(State next) {
+        Binding previous = binding;
+        binding = null;
+        state = next;
+        if (previous == null) return;
+
+        // Drop our handlers from the old event classes so SS2's class loader can be collected.
+        for (EventHook hook : hooks) {
+            Class<? extends Event> eventClass = previous.eventClasses.get(hook.eventName);
+            if (eventClass == null) continue;
+            try {
+                Object handlers = eventClass.getMethod("getHandlerList").invoke(null);
+                if (handlers instanceof HandlerList list) list.unregister(hook.listener);
+            } catch (Throwable ignored) {
+            }
+        }
+
+        for (Runnable listener : unbindListeners) {
+            try {
+                listener.run();
+            } catch (Throwable t) {
+                if (logger != null) logger.log(Level.WARNING, "Couldn't release SuperiorSkyblock2 state on unbind", t);
+            }
+        }
+    }
+
+    /**
+     * Runs the callback whenever SS2 goes away (disabled, or this connector stopped), so caches can drop the SS2
+     * objects they hold (keys, islands) and its class loader can be collected. Main thread.
+     */
+    public void onUnbind(Runnable listener) {
+        unbindListeners.add(listener);
+    }
+
+    public boolean isAvailable() {
+        return binding != null;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Returns what the installed SS2 version supports, or an empty set while it's unavailable.
+     */
+    public Set<Capability> capabilities() {
+        Binding b = binding;
+        return b == null ? Set.of() : b.capabilities;
+    }
+
+    public boolean supports(Capability capability) {
+        Binding b = binding;
+        return b != null && b.capabilities.contains(capability);
+    }
+
+    /**
+     * Whether the installed SS2 version has the event (by simple class name); false while it's unavailable.
+     */
+    public boolean supportsEvent(String eventName) {
+        Binding b = binding;
+        return b != null && b.eventClasses.containsKey(eventName);
+    }
+
     public Object getIslandAt(Location location) {
         if (location == null) return null;
-        try {
-            Class<?> api = Class.forName(API_CLASS);
-            Method getIslandAt = api.getMethod("getIslandAt", Location.class);
-            return getIslandAt.invoke(null, location);
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.getIslandAt, null, location);
     }
 
     public Object getIslandByUuid(UUID islandUuid) {
         if (islandUuid == null) return null;
-        try {
-            Class<?> api = Class.forName(API_CLASS);
-            Method getIslandByUUID = api.getMethod("getIslandByUUID", UUID.class);
-            return getIslandByUUID.invoke(null, islandUuid);
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.getIslandByUuid, null, islandUuid);
     }
 
     /**
@@ -69,105 +253,131 @@ public final class SuperiorSkyblock2Connector {
      */
     public Integer getIslandWorthRank(Object island) {
         if (island == null) return null;
+        Binding b = binding;
+        if (b == null || b.getIslandPosition == null || b.getSortingTypeByName == null) return null;
 
-        try {
-            Class<?> api = Class.forName(API_CLASS);
-            Method getGrid = api.getMethod("getGrid");
-            Object grid = getGrid.invoke(null);
-            if (grid == null) return null;
-
-            Class<?> sortingTypeClass = Class.forName(SORTING_TYPE_CLASS);
-            Method getByName = sortingTypeClass.getMethod("getByName", String.class);
-            Object worthSorting = getByName.invoke(null, "WORTH");
-            if (worthSorting == null) return null;
-
-            Class<?> islandType = Class.forName(ISLAND_CLASS);
-            Method getIslandPosition = grid.getClass().getMethod("getIslandPosition", islandType, sortingTypeClass);
-            Object posObj = getIslandPosition.invoke(grid, island, worthSorting);
-            if (!(posObj instanceof Integer pos)) return null;
-            if (pos < 0) return null;
-            return pos + 1;
-        } catch (Throwable t) {
-            return null;
+        Object grid = invoke(b.getGrid, null);
+        if (grid == null) return null;
+
+        Object worthSorting = invoke(b.getSortingTypeByName, null, "WORTH");
+        if (worthSorting == null) return null;
+
+        Object posObj = invoke(b.getIslandPosition, grid, island, worthSorting);
+        if (!(posObj instanceof Integer pos)) return null;
+        if (pos < 0) return null;
+        return pos + 1;
+    }
+
+    /**
+     * Returns the UUIDs of the {@code limit} most valuable islands, best first, from SS2's worth-sorted island list
+     * (already kept sorted by SS2, so no island is read here), or an empty list if unavailable.
+     */
+    public List<UUID> getTopIslandUuidsByWorth(int limit) {
+        Binding b = binding;
+        if (limit <= 0 || b == null || b.getIslandsSorted == null || b.getSortingTypeByName == null) return List.of();
+
+        Object grid = invoke(b.getGrid, null);
+        if (grid == null) return List.of();
+
+        Object worthSorting = invoke(b.getSortingTypeByName, null, "WORTH");
+        if (worthSorting == null) return List.of();
+
+        Object islands = invoke(b.getIslandsSorted, grid, worthSorting);
+        if (!(islands instanceof Collection<?> sorted)) return List.of();
+
+        List<UUID> out = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (Object island : sorted) {
+            if (out.size() >= limit) break;
+            UUID islandId = getIslandUuid(island);
+            if (islandId != null) out.add(islandId);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the UUIDs of every island on the grid, or an empty list if unavailable.
+     */
+    public List<UUID> getAllIslandUuids() {
+        Binding b = binding;
+        if (b == null || b.getIslands == null) return List.of();
+
+        Object grid = invoke(b.getGrid, null);
+        if (grid == null) return List.of();
+
+        Object islands = invoke(b.getIslands, grid);
+        if (!(islands instanceof Collection<?> all)) return List.of();
+
+        List<UUID> out = new ArrayList<>(all.size());
+        for (Object island : all) {
+            UUID islandId = getIslandUuid(island);
+            if (islandId != null) out.add(islandId);
         }
+        return out;
     }
 
     public UUID getIslandUuid(Object island) {
         if (island == null) return null;
-        try {
-            Method getUniqueId = island.getClass().getMethod("getUniqueId");
-            Object uuid = getUniqueId.invoke(island);
-            return (uuid instanceof UUID u) ? u : null;
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.islandGetUniqueId, island) instanceof UUID u ? u : null;
+    }
+
+    /**
+     * Returns the x/z extent of the island's region (the same in every dimension), or null if unknown.
+     */
+    public IslandArea getIslandArea(Object island) {
+        if (island == null) return null;
+        Binding b = binding;
+        if (b == null) return null;
+
+        if (!(invoke(b.islandGetMinimum, island) instanceof Location min)) return null;
+        if (!(invoke(b.islandGetMaximum, island) instanceof Location max)) return null;
+        return new IslandArea(min.getX(), min.getZ(), max.getX(), max.getZ());
     }
 
     public String getIslandOwnerName(Object island) {
         if (island == null) return null;
-        try {
-            Method getOwner = island.getClass().getMethod("getOwner");
-            Object owner = getOwner.invoke(island);
-            if (owner == null) return null;
-
-            // SuperiorPlayer usually has getName().
-            Method getName = owner.getClass().getMethod("getName");
-            Object name = getName.invoke(owner);
-            return name == null ? null : name.toString();
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        if (b == null) return null;
+
+        Object owner = invoke(b.islandGetOwner, island);
+        if (owner == null) return null;
+
+        Object name = invoke(b.playerGetName, owner);
+        return name == null ? null : name.toString();
     }
 
     public Location getIslandHomeForWorld(Object island, World world) {
         if (island == null || world == null) return null;
-        try {
-            Method getHomes = island.getClass().getMethod("getIslandHomesAsDimensions");
-            Object homesObj = getHomes.invoke(island);
-            if (!(homesObj instanceof Map<?, ?> homes)) return null;
-
-            for (Object locObj : homes.values()) {
-                if (!(locObj instanceof Location loc)) continue;
-                if (loc.getWorld() == null) continue;
-                if (Objects.equals(loc.getWorld().getUID(), world.getUID())) return loc;
-            }
-            return null;
-        } catch (Throwable t) {
-            return null;
+        Binding b = binding;
+        if (b == null) return null;
+
+        Object homesObj = invoke(b.islandGetHomes, island);
+        if (!(homesObj instanceof Map<?, ?> homes)) return null;
+
+        for (Object locObj : homes.values()) {
+            if (!(locObj instanceof Location loc)) continue;
+            if (loc.getWorld() == null) continue;
+            if (Objects.equals(loc.getWorld().getUID(), world.getUID())) return loc;
         }
+        return null;
     }
 
     public BigDecimal getIslandWorth(Object island) {
         if (island == null) return null;
-        try {
-            Method getWorth = island.getClass().getMethod("getWorth");
-            Object worth = getWorth.invoke(island);
-            return (worth instanceof BigDecimal bd) ? bd : null;
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.islandGetWorth, island) instanceof BigDecimal bd ? bd : null;
     }
 
     public BigDecimal getIslandRawWorth(Object island) {
         if (island == null) return null;
-        try {
-            Method getRawWorth = island.getClass().getMethod("getRawWorth");
-            Object rawWorth = getRawWorth.invoke(island);
-            return (rawWorth instanceof BigDecimal bd) ? bd : null;
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.islandGetRawWorth, island) instanceof BigDecimal bd ? bd : null;
     }
 
     public BigDecimal getIslandBonusWorth(Object island) {
         if (island == null) return null;
-        try {
-            Method getBonusWorth = island.getClass().getMethod("getBonusWorth");
-            Object bonusWorth = getBonusWorth.invoke(island);
-            return (bonusWorth instanceof BigDecimal bd) ? bd : null;
-        } catch (Throwable t) {
-            return null;
-        }
+        Binding b = binding;
+        return b == null ? null : invoke(b.islandGetBonusWorth, island) instanceof BigDecimal bd ? bd : null;
     }
 
     public BigDecimal getIslandRawWorth(UUID playerUuid) {
@@ -188,7 +398,6 @@ public final class SuperiorSkyblock2Connector {
     /**
      * Returns the island's block counts map (Key -> BigInteger count), or empty map if unavailable.
      */
-    @SuppressWarnings("unchecked")
     public Map<Object, BigInteger> getIslandBlockCounts(UUID playerUuid) {
         return getIslandBlockCounts(getIslandForPlayer(playerUuid));
     }
@@ -199,87 +408,334 @@ public final class SuperiorSkyblock2Connector {
     @SuppressWarnings("unchecked")
     public Map<Object, BigInteger> getIslandBlockCounts(Object island) {
         if (island == null) return Collections.emptyMap();
+        Binding b = binding;
+        if (b == null) return Collections.emptyMap();
 
-        try {
-            Method getBlockCounts = island.getClass().getMethod("getBlockCountsAsBigInteger");
-            Object blockCounts = getBlockCounts.invoke(island);
-            if (blockCounts instanceof Map<?, ?> m) {
-                return (Map<Object, BigInteger>) m;
-            }
-            return Collections.emptyMap();
-        } catch (Throwable t) {
-            return Collections.emptyMap();
-        }
+        Object blockCounts = invoke(b.islandGetBlockCounts, island);
+        return blockCounts instanceof Map<?, ?> m ? (Map<Object, BigInteger>) m : Collections.emptyMap();
+    }
+
+    /**
+     * Asks SS2 to recount the island's blocks and recalculate its worth. SS2 runs the callback when it's done
+     * (and fires IslandWorthCalculatedEvent). Returns false if this SS2 version can't recalculate on request or
+     * the call failed, in which case the callback won't run.
+     */
+    public boolean calcIslandWorth(Object island, Runnable callback) {
+        if (island == null) return false;
+        Binding b = binding;
+        if (b == null || b.islandCalcWorth == null) return false;
+
+        return call(b.islandCalcWorth, island, null, callback) != FAILED;
     }
 
     public BigDecimal getBlockWorth(Object key) {
         if (key == null) return null;
+        Binding b = binding;
+        if (b == null || b.getBlockWorth == null) return null;
 
-        try {
-            Class<?> api = Class.forName(API_CLASS);
-            Method getBlockValues = api.getMethod("getBlockValues");
-            Object blockValuesManager = getBlockValues.invoke(null);
-            if (blockValuesManager == null) return null;
-
-            Class<?> keyType = Class.forName(KEY_CLASS);
-            Method getBlockWorth = blockValuesManager.getClass().getMethod("getBlockWorth", keyType);
-            Object worth = getBlockWorth.invoke(blockValuesManager, key);
-            return (worth instanceof BigDecimal bd) ? bd : null;
-        } catch (Throwable t) {
-            return null;
-        }
+        Object blockValuesManager = invoke(b.getBlockValues, null);
+        if (blockValuesManager == null) return null;
+
+        return invoke(b.getBlockWorth, blockValuesManager, key) instanceof BigDecimal bd ? bd : null;
     }
 
     public String getKeyGlobalPart(Object key) {
         if (key == null) return "";
-        try {
-            Method getGlobalKey = key.getClass().getMethod("getGlobalKey");
-            Object global = getGlobalKey.invoke(key);
-            return global == null ? "" : global.toString();
-        } catch (Throwable t) {
-            return "";
-        }
+        Binding b = binding;
+        Object global = b == null ? null : invoke(b.keyGetGlobal, key);
+        return global == null ? "" : global.toString();
     }
 
     public String getKeySubPart(Object key) {
         if (key == null) return "";
-        try {
-            Method getSubKey = key.getClass().getMethod("getSubKey");
-            Object sub = getSubKey.invoke(key);
-            return sub == null ? "" : sub.toString();
-        } catch (Throwable t) {
-            return "";
-        }
+        Binding b = binding;
+        Object sub = b == null ? null : invoke(b.keyGetSub, key);
+        return sub == null ? "" : sub.toString();
     }
 
     public String formatKey(Object key) {
         if (key == null) return "unknown";
+        if (!supports(Capability.KEY_PARTS)) return key.toString();
+
+        String g = getKeyGlobalPart(key);
+        String s = getKeySubPart(key);
+        if (s.isEmpty()) return g;
+        if (g.isEmpty()) return s;
+        String combined = g + ":" + s;
+        return combined.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Registers a handler for a SuperiorSkyblock2 API event by simple class name (e.g. "IslandDisbandEvent").
+     * The hook follows SS2's lifecycle: it's attached whenever SS2 enables and detached when it disables.
+     * Returns false if it couldn't be attached right now (SS2 unavailable, or the event isn't supported).
+     */
+    public boolean registerEventHook(Plugin plugin, Listener listener, String eventName, EventPriority priority, Consumer<Event> handler) {
+        EventHook hook = new EventHook(plugin, listener, eventName, priority, handler);
+        hooks.add(hook);
+
+        Binding b = binding;
+        return b != null && attach(b, hook);
+    }
 
+    private boolean attach(Binding b, EventHook hook) {
+        Class<? extends Event> eventClass = b.eventClasses.get(hook.eventName);
+        if (eventClass == null || !hook.plugin.isEnabled()) return false;
+
+        // Handler failures are our bugs; log them, at most once a minute per hook so a hot event can't flood.
+        AtomicLong lastLoggedMs = new AtomicLong(Long.MIN_VALUE);
+        AtomicInteger unlogged = new AtomicInteger();
+        Bukkit.getPluginManager().registerEvent(
+                eventClass,
+                hook.listener,
+                hook.priority,
+                (l, event) -> {
+                    if (!eventClass.isInstance(event)) return;
+                    try {
+                        hook.handler.accept(event);
+                    } catch (Throwable t) {
+                        long now = System.currentTimeMillis();
+                        long last = lastLoggedMs.get();
+                        if (last != Long.MIN_VALUE && now - last < HANDLER_FAILURE_LOG_INTERVAL_MS
+                                || !lastLoggedMs.compareAndSet(last, now)) {
+                            unlogged.incrementAndGet();
+                            return;
+                        }
+                        int skipped = unlogged.getAndSet(0);
+                        hook.plugin.getLogger().log(Level.WARNING, "Handler for SuperiorSkyblock2 " + hook.eventName + " failed"
+                                + (skipped > 0 ? " (" + skipped + " more failures since the last report)" : ""), t);
+                    }
+                },
+                hook.plugin,
+                true
+        );
+        return true;
+    }
+
+    /**
+     * Returns the island of an SS2 IslandEvent, or null if the event doesn't carry one.
+     */
+    public Object getEventIsland(Event event) {
+        if (event == null) return null;
+        Binding b = binding;
+        if (b == null) return null;
+
+        Method accessor = b.islandAccessors.get(event.getClass());
+        return accessor == null ? null : invoke(accessor, event);
+    }
+
+    /**
+     * Returns the UUID of the player an SS2 event is about (getTarget for kicks, otherwise getPlayer), or null.
+     */
+    public UUID getEventPlayerUuid(Event event) {
+        if (event == null) return null;
+        Binding b = binding;
+        if (b == null) return null;
+
+        Method accessor = b.playerAccessors.get(event.getClass());
+        Object superiorPlayer = accessor == null ? null : invoke(accessor, event);
+        if (superiorPlayer == null) return null;
+        return invoke(b.playerGetUniqueId, superiorPlayer) instanceof UUID u ? u : null;
+    }
+
+    /**
+     * Returns the island the player is a member of, or null if none.
+     */
+    public Object getIslandForPlayer(UUID playerUuid) {
+        if (playerUuid == null) return null;
+        Binding b = binding;
+        if (b == null) return null;
+
+        Object superiorPlayer = invoke(b.getPlayer, null, playerUuid);
+        return superiorPlayer == null ? null : invoke(b.playerGetIsland, superiorPlayer);
+    }
+
+    /**
+     * Invokes a resolved method; returns null if it wasn't resolved or the call failed.
+     */
+    private static Object invoke(Method method, Object target, Object... args) {
+        Object result = call(method, target, args);
+        return result == FAILED ? null : result;
+    }
+
+    /**
+     * Like {@link #invoke}, but returns {@link #FAILED} instead of null when SS2 threw, so callers that need to
+     * know whether the call went through (not just its result) can tell.
+     */
+    private static Object call(Method method, Object target, Object... args) {
+        if (method == null) return FAILED;
+
+        SuperiorCallEvent event = new SuperiorCallEvent();
+        event.begin();
+        boolean failed = false;
         try {
-            Object global = getKeyGlobalPart(key);
-            Object sub = getKeySubPart(key);
-            String g = global == null ? "" : global.toString();
-            String s = sub == null ? "" : sub.toString();
-            if (s.isEmpty()) return g;
-            if (g.isEmpty()) return s;
-            String combined = g + ":" + s;
-            return combined.toUpperCase(Locale.ENGLISH);
+            return method.invoke(target, args);
         } catch (Throwable t) {
-            return key.toString();
+            failed = true;
+            return FAILED;
+        } finally {
+            if (event.shouldCommit()) {
+                event.method = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                event.failed = failed;
+                event.commit();
+            }
         }
     }
 
-    private Object getIslandForPlayer(UUID playerUuid) {
-        try {
-            Class<?> api = Class.forName(API_CLASS);
-            Method getPlayer = api.getMethod("getPlayer", UUID.class);
-            Object superiorPlayer = getPlayer.invoke(null, playerUuid);
-            if (superiorPlayer == null) return null;
+    public record IslandArea(double minX, double minZ, double maxX, double maxZ) {
 
-            Method getIsland = superiorPlayer.getClass().getMethod("getIsland");
-            return getIsland.invoke(superiorPlayer);
-        } catch (Throwable t) {
-            return null;
+        public boolean contains(double x, double z) {
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private record EventHook(Plugin plugin, Listener listener, String eventName, EventPriority priority, Consumer<Event> handler) {
+    }
+
+    /**
+     * Everything resolved from one enabled SS2 instance. Immutable apart from the per-event-class accessor caches.
+     */
+    private static final class Binding {
+
+        final Method getIslandAt;
+        final Method getIslandByUuid;
+        final Method getPlayer;
+        final Method getGrid;
+        final Method getBlockValues;
+
+        final Method islandGetUniqueId;
+        final Method islandGetOwner;
+        final Method islandGetHomes;
+        final Method islandGetMinimum;
+        final Method islandGetMaximum;
+        final Method islandGetWorth;
+        final Method islandGetRawWorth;
+        final Method islandGetBonusWorth;
+        final Method islandGetBlockCounts;
+        final Method islandCalcWorth;
+
+        final Method playerGetName;
+        final Method playerGetIsland;
+        final Method playerGetUniqueId;
+
+        final Method getIslandPosition;
+        final Method getIslands;
+        final Method getIslandsSorted;
+        final Method getSortingTypeByName;
+        final Method getBlockWorth;
+        final Method keyGetGlobal;
+        final Method keyGetSub;
+
+        final Map<String, Class<? extends Event>> eventClasses;
+        final Set<Capability> capabilities;
+
+        // Event accessors differ per event class; resolved on first use.
+        final ClassValue<Method> islandAccessors = accessors("getIsland");
+        final ClassValue<Method> playerAccessors = accessors("getTarget", "getPlayer");
+
+        private Binding(ClassLoader loader, Class<?> api) {
+            Class<?> islandType = load(loader, ISLAND_CLASS);
+            Class<?> playerType = load(loader, PLAYER_CLASS);
+            Class<?> gridType = load(loader, GRID_CLASS);
+            Class<?> blockValuesType = load(loader, BLOCK_VALUES_CLASS);
+            Class<?> keyType = load(loader, KEY_CLASS);
+            Class<?> sortingType = load(loader, SORTING_TYPE_CLASS);
+
+            getIslandAt = method(api, "getIslandAt", Location.class);
+            getIslandByUuid = method(api, "getIslandByUUID", UUID.class);
+            getPlayer = method(api, "getPlayer", UUID.class);
+            getGrid = method(api, "getGrid");
+            getBlockValues = method(api, "getBlockValues");
+
+            islandGetUniqueId = method(islandType, "getUniqueId");
+            islandGetOwner = method(islandType, "getOwner");
+            islandGetHomes = method(islandType, "getIslandHomesAsDimensions");
+            islandGetMinimum = method(islandType, "getMinimum");
+            islandGetMaximum = method(islandType, "getMaximum");
+            islandGetWorth = method(islandType, "getWorth");
+            islandGetRawWorth = method(islandType, "getRawWorth");
+            islandGetBonusWorth = method(islandType, "getBonusWorth");
+            islandGetBlockCounts = method(islandType, "getBlockCountsAsBigInteger");
+            islandCalcWorth = playerType == null ? null : method(islandType, "calcIslandWorth", playerType, Runnable.class);
+
+            playerGetName = method(playerType, "getName");
+            playerGetIsland = method(playerType, "getIsland");
+            playerGetUniqueId = method(playerType, "getUniqueId");
+
+            getIslandPosition = islandType == null || sortingType == null ? null
+                    : method(gridType, "getIslandPosition", islandType, sortingType);
+            getIslands = method(gridType, "getIslands");
+            getIslandsSorted = sortingType == null ? null : method(gridType, "getIslands", sortingType);
+            getSortingTypeByName = method(sortingType, "getByName", String.class);
+            getBlockWorth = keyType == null ? null : method(blockValuesType, "getBlockWorth", keyType);
+            keyGetGlobal = method(keyType, "getGlobalKey");
+            keyGetSub = method(keyType, "getSubKey");
+
+            Map<String, Class<? extends Event>> events = new HashMap<>();
+            for (String eventName : KNOWN_EVENTS) {
+                Class<?> eventClass = load(loader, EVENTS_PACKAGE + eventName);
+                if (eventClass != null && Event.class.isAssignableFrom(eventClass)) {
+                    events.put(eventName, eventClass.asSubclass(Event.class));
+                }
+            }
+            eventClasses = Map.copyOf(events);
+
+            EnumSet<Capability> caps = EnumSet.noneOf(Capability.class);
+            if (getIslandAt != null && getIslandByUuid != null && islandGetUniqueId != null) caps.add(Capability.ISLAND_LOOKUP);
+            if (getPlayer != null && playerGetIsland != null) caps.add(Capability.PLAYER_ISLAND);
+            if (getGrid != null && getIslands != null) caps.add(Capability.ISLAND_LIST);
+            if (islandGetWorth != null) caps.add(Capability.WORTH);
+            if (islandGetRawWorth != null && islandGetBonusWorth != null) caps.add(Capability.WORTH_BREAKDOWN);
+            if (getGrid != null && getIslandPosition != null && getSortingTypeByName != null) caps.add(Capability.WORTH_RANK);
+            if (getGrid != null && getIslandsSorted != null && getSortingTypeByName != null) caps.add(Capability.WORTH_LEADERBOARD);
+            if (islandGetOwner != null && playerGetName != null) caps.add(Capability.OWNER);
+            if (islandGetHomes != null) caps.add(Capability.HOMES);
+            if (islandGetBlockCounts != null) caps.add(Capability.BLOCK_COUNTS);
+            if (getBlockValues != null && getBlockWorth != null) caps.add(Capability.BLOCK_VALUES);
+            if (keyGetGlobal != null && keyGetSub != null) caps.add(Capability.KEY_PARTS);
+            if (islandCalcWorth != null) caps.add(Capability.WORTH_RECALC);
+            capabilities = Collections.unmodifiableSet(caps);
+        }
+
+        /**
+         * Resolves the API from SS2's class loader, or returns null if its entry point can't be loaded.
+         */
+        static Binding probe(ClassLoader loader) {
+            Class<?> api = load(loader, API_CLASS);
+            return api == null ? null : new Binding(loader, api);
+        }
+
+        /**
+         * Per-class cache of the first public no-arg method with one of the given names (null if none).
+         */
+        private static ClassValue<Method> accessors(String... names) {
+            return new ClassValue<>() {
+                @Override
+                protected Method computeValue(Class<?> type) {
+                    for (String name : names) {
+                        Method method = method(type, name);
+                        if (method != null) return method;
+                    }
+                    return null;
+                }
+            };
+        }
+
+        private static Class<?> load(ClassLoader loader, String name) {
+            try {
+                return Class.forName(name, true, loader);
+            } catch (Throwable t) {
+                return null;
+            }
+        }
+
+        private static Method method(Class<?> type, String name, Class<?>... parameterTypes) {
+            if (type == null) return null;
+            try {
+                return type.getMethod(name, parameterTypes);
+            } catch (Throwable t) {
+                return null;
+            }
         }
     }
 }
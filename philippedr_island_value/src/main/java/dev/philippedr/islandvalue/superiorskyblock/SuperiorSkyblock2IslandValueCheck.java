@@ -8,7 +8,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -19,9 +19,11 @@ import java.util.UUID;
 public final class SuperiorSkyblock2IslandValueCheck {
 
     private final SuperiorSkyblock2Connector connector;
+    private final IslandBreakdownIndex breakdowns;
 
-    public SuperiorSkyblock2IslandValueCheck(SuperiorSkyblock2Connector connector) {
+    public SuperiorSkyblock2IslandValueCheck(SuperiorSkyblock2Connector connector, IslandBreakdownIndex breakdowns) {
         this.connector = connector;
+        this.breakdowns = breakdowns;
     }
 
     public record IslandWorthDetails(BigDecimal worth, BigDecimal rawWorth, BigDecimal bonusWorth) {
@@ -30,6 +32,20 @@ public final class SuperiorSkyblock2IslandValueCheck {
     public record BlockWorthLine(String key, BigInteger amount, BigDecimal worthEach, BigDecimal worthTotal) {
     }
 
+    public record TopBlocks(List<BlockWorthLine> lines, long contentVersion) {
+    }
+
+    public boolean isAvailable() {
+        return connector.isAvailable();
+    }
+
+    public boolean supports(SuperiorSkyblock2Connector.Capability... capabilities) {
+        for (SuperiorSkyblock2Connector.Capability capability : capabilities) {
+            if (!connector.supports(capability)) return false;
+        }
+        return true;
+    }
+
     public Optional<BigDecimal> getIslandWorthByUsername(String username) {
         if (!connector.isAvailable()) return Optional.empty();
 
@@ -40,31 +56,94 @@ public final class SuperiorSkyblock2IslandValueCheck {
     }
 
     public Optional<IslandWorthDetails> getIslandWorthDetailsByUsername(String username) {
-        if (!connector.isAvailable()) return Optional.empty();
+        return getIslandWorthDetails(getIslandByUsername(username));
+    }
 
-        UUID uuid = resolveUuid(username);
-        if (uuid == null) return Optional.empty();
+    public Optional<IslandWorthDetails> getIslandWorthDetails(Object island) {
+        if (island == null) return Optional.empty();
 
-        BigDecimal worth = connector.getIslandWorth(uuid);
+        BigDecimal worth = connector.getIslandWorth(island);
         if (worth == null) return Optional.empty();
 
-        BigDecimal rawWorth = connector.getIslandRawWorth(uuid);
-        BigDecimal bonusWorth = connector.getIslandBonusWorth(uuid);
+        BigDecimal rawWorth = connector.getIslandRawWorth(island);
+        BigDecimal bonusWorth = connector.getIslandBonusWorth(island);
 
         return Optional.of(new IslandWorthDetails(worth, rawWorth, bonusWorth));
     }
 
+    /**
+     * Returns the island of the named player, or null if they have none or SuperiorSkyblock2 is unavailable.
+     */
+    public Object getIslandByUsername(String username) {
+        if (!connector.isAvailable()) return null;
+
+        UUID uuid = resolveUuid(username);
+        return uuid == null ? null : connector.getIslandForPlayer(uuid);
+    }
+
+    public UUID getIslandId(Object island) {
+        return connector.getIslandUuid(island);
+    }
+
     public Optional<List<BlockWorthLine>> getTopWorthBlocksByUsername(String username, int limit) {
         if (!connector.isAvailable()) return Optional.empty();
 
         UUID uuid = resolveUuid(username);
         if (uuid == null) return Optional.empty();
 
-        BigDecimal worthCap = connector.getIslandWorth(uuid);
-        if (worthCap == null || worthCap.signum() <= 0) return Optional.of(List.of());
+        return Optional.of(getTopWorthBlocks(connector.getIslandForPlayer(uuid), limit));
+    }
+
+    /**
+     * Returns the island's valued blocks sorted by worth each, clamped so the totals never exceed the island worth.
+     * The island's breakdown is kept and updated incrementally on later calls.
+     */
+    public List<BlockWorthLine> getTopWorthBlocks(Object island, int limit) {
+        return topWorthBlocks(island, limit, true);
+    }
+
+    /**
+     * Like {@link #getTopWorthBlocks(Object, int)}, but for bulk walks over every island: reuses a kept
+     * breakdown if there is one without keeping new ones.
+     */
+    public List<BlockWorthLine> getTopWorthBlocksOnce(Object island, int limit) {
+        return topWorthBlocks(island, limit, false);
+    }
 
-        Map<Object, BigInteger> counts = connector.getIslandBlockCounts(uuid);
-        if (counts.isEmpty()) return Optional.of(List.of());
+    /**
+     * Like {@link #getTopWorthBlocks(Object, int)}, also returning a fingerprint of the island's block counts and
+     * their current prices (for versioning cached valuations). Both come from the same incremental update.
+     */
+    public TopBlocks getVersionedTopWorthBlocks(Object island, int limit) {
+        if (island == null) return new TopBlocks(List.of(), 0L);
+
+        IslandBreakdownIndex.Lines lines = breakdowns.update(connector.getIslandUuid(island), island, true);
+        return new TopBlocks(clampToWorthCap(lines.sorted(), connector.getIslandWorth(island), limit), lines.contentVersion());
+    }
+
+    private List<BlockWorthLine> topWorthBlocks(Object island, int limit, boolean retain) {
+        if (island == null) return List.of();
+
+        BigDecimal worthCap = connector.getIslandWorth(island);
+        if (worthCap == null || worthCap.signum() <= 0) return List.of();
+
+        Iterable<BlockWorthLine> sorted = breakdowns.update(connector.getIslandUuid(island), island, retain).sorted();
+        return clampToWorthCap(sorted, worthCap, limit);
+    }
+
+    /**
+     * Returns the key's display name, cached across islands. Main thread only.
+     */
+    public String getKeyName(Object key) {
+        return breakdowns.keyInfo(key).text();
+    }
+
+    /**
+     * Returns the island's positive block counts without SS2's derived global aggregation keys.
+     */
+    public Map<Object, BigInteger> getConcreteBlockCounts(Object island) {
+        Map<Object, BigInteger> counts = connector.getIslandBlockCounts(island);
+        if (counts.isEmpty()) return Map.of();
 
         // SuperiorSkyblock2 keeps additional derived keys (global/limit aggregations) in the counts map.
         // Those are useful for SS2 internals, but they can make a breakdown show entries that aren't
@@ -77,64 +156,34 @@ public final class SuperiorSkyblock2IslandValueCheck {
             BigInteger amount = entry.getValue();
             if (keyObj == null || amount == null || amount.signum() <= 0) continue;
 
-            String global = connector.getKeyGlobalPart(keyObj);
-            String sub = connector.getKeySubPart(keyObj);
-            if (global == null || global.isEmpty()) continue;
-            if (sub != null && !sub.isEmpty()) {
-                globalsWithSubKeys.add(global);
+            IslandBreakdownIndex.KeyInfo info = breakdowns.keyInfo(keyObj);
+            if (info.hasGlobal() && info.hasSub()) {
+                globalsWithSubKeys.add(info.global());
             }
         }
 
-        List<BlockWorthLine> lines = new ArrayList<>();
+        Map<Object, BigInteger> out = new LinkedHashMap<>();
         for (Map.Entry<Object, BigInteger> entry : counts.entrySet()) {
             Object keyObj = entry.getKey();
             BigInteger amount = entry.getValue();
             if (keyObj == null || amount == null) continue;
             if (amount.signum() <= 0) continue;
 
-            String global = connector.getKeyGlobalPart(keyObj);
-            String sub = connector.getKeySubPart(keyObj);
-            if (global != null && !global.isEmpty() && (sub == null || sub.isEmpty()) && globalsWithSubKeys.contains(global)) {
+            IslandBreakdownIndex.KeyInfo info = breakdowns.keyInfo(keyObj);
+            if (info.hasGlobal() && !info.hasSub() && globalsWithSubKeys.contains(info.global())) {
                 continue;
             }
 
-            BigDecimal worthEach = connector.getBlockWorth(keyObj);
-            if (worthEach == null) continue;
-            if (worthEach.signum() <= 0) continue;
-
-            BigDecimal amountDec;
-            try {
-                amountDec = new BigDecimal(amount);
-            } catch (NumberFormatException ex) {
-                continue;
-            }
-
-            BigDecimal worthTotal = worthEach.multiply(amountDec);
-            if (worthTotal.signum() <= 0) continue;
-
-            lines.add(new BlockWorthLine(
-                    connector.formatKey(keyObj),
-                    amount,
-                    worthEach,
-                    worthTotal
-            ));
+            out.put(keyObj, amount);
         }
-
-        lines.sort(
-            Comparator.comparing(BlockWorthLine::worthEach).reversed()
-                .thenComparing(BlockWorthLine::worthTotal, Comparator.reverseOrder())
-        );
-
-        lines = clampToWorthCap(lines, worthCap);
-        if (limit > 0 && lines.size() > limit) {
-            lines = lines.subList(0, limit);
-        }
-
-        return Optional.of(lines);
+        return out;
     }
 
-    private static List<BlockWorthLine> clampToWorthCap(List<BlockWorthLine> sortedLines, BigDecimal worthCap) {
-        if (sortedLines == null || sortedLines.isEmpty()) return List.of();
+    /**
+     * Clamps sorted lines to the worth cap, stopping after {@code limit} lines (0 = no limit).
+     */
+    private static List<BlockWorthLine> clampToWorthCap(Iterable<BlockWorthLine> sortedLines, BigDecimal worthCap, int limit) {
+        if (sortedLines == null) return List.of();
         if (worthCap == null || worthCap.signum() <= 0) return List.of();
 
         BigDecimal remaining = worthCap;
@@ -143,6 +192,7 @@ public final class SuperiorSkyblock2IslandValueCheck {
         for (BlockWorthLine line : sortedLines) {
             if (line == null) continue;
             if (remaining.signum() <= 0) break;
+            if (limit > 0 && out.size() >= limit) break;
 
             BigDecimal worthEach = line.worthEach();
             BigDecimal worthTotal = line.worthTotal();